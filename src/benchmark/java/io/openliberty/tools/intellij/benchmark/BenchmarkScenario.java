@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scripted LSP session of a language server bundled in <code>lib/server</code>: the command line to start the
+ * server, the sample document opened in the server and the positions of the completion and hover requests.
+ */
+class BenchmarkScenario {
+
+    final String serverId;
+
+    private final List<String> serverArguments;
+
+    final String documentPath;
+
+    final String languageId;
+
+    /**
+     * Text appended to the sample document to get meaningful completion and hover results.
+     */
+    final String appendedText;
+
+    final int completionLine;
+
+    final int completionCharacter;
+
+    final int hoverLine;
+
+    final int hoverCharacter;
+
+    private BenchmarkScenario(String serverId, List<String> serverArguments, String documentPath, String languageId,
+                              String appendedText, int completionLine, int completionCharacter, int hoverLine,
+                              int hoverCharacter) {
+        this.serverId = serverId;
+        this.serverArguments = serverArguments;
+        this.documentPath = documentPath;
+        this.languageId = languageId;
+        this.appendedText = appendedText;
+        this.completionLine = completionLine;
+        this.completionCharacter = completionCharacter;
+        this.hoverLine = hoverLine;
+        this.hoverCharacter = hoverCharacter;
+    }
+
+    /**
+     * Returns the command line to start the language server from the given server directory, with the Java
+     * installation of the given directory.
+     */
+    List<String> getCommandLine(File serverDir, File javaHome, List<String> jvmArgs) {
+        List<String> commandLine = new ArrayList<>();
+        commandLine.add(new File(new File(javaHome, "bin"), "java").getAbsolutePath());
+        commandLine.addAll(jvmArgs);
+        for (String argument : serverArguments) {
+            commandLine.add(argument.replace("${serverDir}", serverDir.getAbsolutePath()));
+        }
+        return commandLine;
+    }
+
+    static List<BenchmarkScenario> all() {
+        return List.of(
+                new BenchmarkScenario("lsp4mp",
+                        List.of("-jar", "${serverDir}/org.eclipse.lsp4mp.ls-uber.jar", "-DrunAsync=true"),
+                        "gradle/sampleGradleMPLSApp/src/main/resources/META-INF/microprofile-config.properties",
+                        "microprofile-properties", "io.openliberty.mp.sample.client.Service/mp-rest/", 9, 48, 1, 3),
+                new BenchmarkScenario("jakartals",
+                        List.of("-jar", "${serverDir}/org.eclipse.lsp4jakarta.ls-jar-with-dependencies.jar", "-DrunAsync=true"),
+                        "maven/singleModMavenMP/src/main/java/io/openliberty/sample/SampleResource.java",
+                        "java", "", 21, 8, 17, 15),
+                new BenchmarkScenario("libertyXml",
+                        List.of("-cp", "${serverDir}/org.eclipse.lemminx-uber.jar" + File.pathSeparator
+                                + "${serverDir}/liberty-langserver-lemminx-jar-with-dependencies.jar",
+                                "org.eclipse.lemminx.XMLServerLauncher"),
+                        "maven/singleModMavenMP/src/main/liberty/config/server.xml",
+                        "xml", "", 12, 17, 11, 10),
+                new BenchmarkScenario("libertyls",
+                        List.of("-jar", "${serverDir}/liberty-langserver-jar-with-dependencies.jar"),
+                        "gradle/singleModGradleMP/src/main/liberty/config/bootstrap.properties",
+                        "properties", "\ncom.ibm.ws.logging.", 1, 19, 0, 10));
+    }
+}
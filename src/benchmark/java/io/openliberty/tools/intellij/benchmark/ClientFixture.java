@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Answers the requests sent by the language servers to the client with the results the plugin computes for a sample
+ * project, so the servers get the project information and the classpath labels of a real project.
+ *
+ * <p>
+ * The fixture of a sample project is stored in <code>fixtures/&lt;project name&gt;.json</code> and declares:
+ * </p>
+ * <ul>
+ *     <li><code>labels</code>: the labels of the project, the Java types requested with the labels being in the
+ *     classpath of the project</li>
+ *     <li><code>properties</code> and <code>hints</code>: the MicroProfile properties computed from the Java sources
+ *     of the project</li>
+ *     <li><code>staticProperties</code>: the static properties metadata of the plugin which apply to the classpath of
+ *     the project</li>
+ * </ul>
+ */
+class ClientFixture {
+
+    private static final Gson GSON = new Gson();
+
+    private final String projectURI;
+
+    private final String projectName;
+
+    private final JsonArray labels;
+
+    private final JsonArray properties;
+
+    private final JsonArray hints;
+
+    private ClientFixture(String projectURI, String projectName, JsonArray labels, JsonArray properties, JsonArray hints) {
+        this.projectURI = projectURI;
+        this.projectName = projectName;
+        this.labels = labels;
+        this.properties = properties;
+        this.hints = hints;
+    }
+
+    /**
+     * Returns the fixture of the given sample project.
+     *
+     * @param projectDir          the directory of the sample project.
+     * @param staticPropertiesDir the directory of the static properties metadata of the plugin.
+     * @return the fixture of the given sample project.
+     */
+    static ClientFixture load(File projectDir, File staticPropertiesDir) throws IOException {
+        String resource = "/fixtures/" + projectDir.getName() + ".json";
+        JsonObject fixture;
+        try (InputStream in = ClientFixture.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("No fixture " + resource);
+            }
+            fixture = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), JsonObject.class);
+        }
+        JsonArray properties = getArray(fixture, "properties");
+        JsonArray hints = getArray(fixture, "hints");
+        for (JsonElement fileName : getArray(fixture, "staticProperties")) {
+            File file = new File(staticPropertiesDir, fileName.getAsString());
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                JsonObject metadata = GSON.fromJson(reader, JsonObject.class);
+                properties.addAll(getArray(metadata, "properties"));
+                hints.addAll(getArray(metadata, "hints"));
+            }
+        }
+        return new ClientFixture(projectDir.toURI().toString(), projectDir.getName(), getArray(fixture, "labels"),
+                properties, hints);
+    }
+
+    /**
+     * Returns the result of the given request sent by the language server.
+     *
+     * @param method the method of the request.
+     * @param params the parameters of the request.
+     * @return the result of the given request.
+     */
+    JsonElement getResult(String method, JsonObject params) {
+        switch (method) {
+            case "workspace/configuration" -> {
+                JsonArray result = new JsonArray();
+                if (params != null && params.has("items")) {
+                    params.getAsJsonArray("items").forEach(item -> result.add(JsonNull.INSTANCE));
+                }
+                return result;
+            }
+            case "microprofile/projectInfo" -> {
+                JsonObject projectInfo = new JsonObject();
+                projectInfo.addProperty("projectURI", projectURI);
+                projectInfo.add("properties", properties);
+                projectInfo.add("hints", hints);
+                return projectInfo;
+            }
+            case "microprofile/java/projectLabels", "jakarta/java/projectLabels" -> {
+                return createProjectLabels(params != null ? params.getAsJsonArray("types") : null);
+            }
+            case "microprofile/java/workspaceLabels", "jakarta/java/workspaceLabels" -> {
+                JsonArray result = new JsonArray();
+                result.add(createProjectLabels(null));
+                return result;
+            }
+            default -> {
+                // The requests which need the Psi of the project (Java diagnostics, completion...) have no result
+                return JsonNull.INSTANCE;
+            }
+        }
+    }
+
+    private JsonObject createProjectLabels(JsonArray types) {
+        JsonArray projectLabels = labels.deepCopy();
+        if (types != null) {
+            // The MicroProfile and Jakarta APIs are in the classpath of the sample projects
+            projectLabels.addAll(types);
+        }
+        JsonObject result = new JsonObject();
+        result.addProperty("uri", projectURI);
+        result.addProperty("name", projectName);
+        result.add("labels", projectLabels);
+        return result;
+    }
+
+    private static JsonArray getArray(JsonObject json, String name) {
+        return json.has(name) ? json.getAsJsonArray(name).deepCopy() : new JsonArray();
+    }
+}
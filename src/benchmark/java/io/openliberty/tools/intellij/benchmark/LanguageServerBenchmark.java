@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Headless benchmark of the language servers bundled in <code>lib/server</code>.
+ *
+ * <p>
+ * Each language server is started several times over stdio to measure the time to the <code>initialize</code>
+ * response, then a scripted session (initialize, didOpen, completion, hover, diagnostics) is replayed against a
+ * sample project of <code>src/test/resources/projects</code> to measure the request latencies, after a warmup. The
+ * requests sent by the servers to the client are answered with the {@link ClientFixture} of the sample project.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew benchmark -PbenchmarkArgs="--servers lsp4mp,libertyXml --iterations 500"
+ * </pre>
+ *
+ * Options:
+ * <ul>
+ *     <li><code>--server-dir</code>: directory of the language server jars (required)</li>
+ *     <li><code>--projects-dir</code>: directory of the sample projects (required)</li>
+ *     <li><code>--static-properties-dir</code>: directory of the static properties metadata of the plugin (required)</li>
+ *     <li><code>--java-home</code>: Java installation of the language servers (default: the Java installation of the
+ *     benchmark)</li>
+ *     <li><code>--servers</code>: comma separated ids of the servers to benchmark (default: all)</li>
+ *     <li><code>--startups</code>: number of server startups measured (default: 5)</li>
+ *     <li><code>--warmup</code>: number of warmup iterations (default: 50)</li>
+ *     <li><code>--iterations</code>: number of measured iterations (default: 200)</li>
+ *     <li><code>--jvm-arg</code>: JVM argument of the language servers, can be repeated</li>
+ * </ul>
+ */
+public final class LanguageServerBenchmark {
+
+    private static final long REQUEST_TIMEOUT_SECONDS = 30;
+
+    private static final long DIAGNOSTICS_TIMEOUT_SECONDS = 10;
+
+    private File serverDir;
+
+    private File projectsDir;
+
+    private File staticPropertiesDir;
+
+    private File javaHome = new File(System.getProperty("java.home"));
+
+    private List<String> serverIds;
+
+    private int startups = 5;
+
+    private int warmup = 50;
+
+    private int iterations = 200;
+
+    private final List<String> jvmArgs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        LanguageServerBenchmark benchmark = new LanguageServerBenchmark();
+        benchmark.parseArgs(args);
+        System.out.println("Language servers run with " + benchmark.javaHome);
+        boolean failed = false;
+        for (BenchmarkScenario scenario : BenchmarkScenario.all()) {
+            if (benchmark.serverIds == null || benchmark.serverIds.contains(scenario.serverId)) {
+                try {
+                    benchmark.run(scenario);
+                } catch (Exception e) {
+                    failed = true;
+                    System.out.println("[" + scenario.serverId + "] failed: " + e);
+                }
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--server-dir" -> serverDir = new File(value);
+                case "--projects-dir" -> projectsDir = new File(value);
+                case "--static-properties-dir" -> staticPropertiesDir = new File(value);
+                case "--java-home" -> javaHome = new File(value);
+                case "--servers" -> serverIds = Arrays.asList(value.split(","));
+                case "--startups" -> startups = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--jvm-arg" -> jvmArgs.add(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+            i++;
+        }
+        if (serverDir == null || projectsDir == null || staticPropertiesDir == null) {
+            throw new IllegalArgumentException("--server-dir, --projects-dir and --static-properties-dir are required");
+        }
+    }
+
+    private void run(BenchmarkScenario scenario) throws Exception {
+        File document = new File(projectsDir, scenario.documentPath);
+        File projectDir = new File(projectsDir, scenario.documentPath.substring(0, scenario.documentPath.indexOf("/src/")));
+        String text = Files.readString(document.toPath(), StandardCharsets.UTF_8) + scenario.appendedText;
+        String uri = document.toURI().toString();
+        ClientFixture fixture = ClientFixture.load(projectDir, staticPropertiesDir);
+
+        LatencyRecorder startup = new LatencyRecorder();
+        for (int i = 0; i < startups - 1; i++) {
+            try (LspConnection connection = start(scenario, projectDir, fixture, startup)) {
+                shutdown(connection);
+            }
+        }
+
+        LatencyRecorder completion = new LatencyRecorder();
+        LatencyRecorder hover = new LatencyRecorder();
+        LatencyRecorder diagnostics = new LatencyRecorder();
+        try (LspConnection connection = start(scenario, projectDir, fixture, startup)) {
+            AtomicReference<CompletableFuture<Void>> nextDiagnostics = new AtomicReference<>(new CompletableFuture<>());
+            connection.onNotification("textDocument/publishDiagnostics", params -> {
+                if (uri.equals(params.get("uri").getAsString())) {
+                    nextDiagnostics.get().complete(null);
+                }
+            });
+            connection.notify("initialized", new JsonObject());
+
+            JsonObject textDocument = new JsonObject();
+            textDocument.addProperty("uri", uri);
+            textDocument.addProperty("languageId", scenario.languageId);
+            textDocument.addProperty("version", 1);
+            textDocument.addProperty("text", text);
+            JsonObject didOpen = new JsonObject();
+            didOpen.add("textDocument", textDocument);
+            long start = System.nanoTime();
+            connection.notify("textDocument/didOpen", didOpen);
+            awaitDiagnostics(nextDiagnostics.get(), start, diagnostics);
+
+            for (int i = 0; i < warmup + iterations; i++) {
+                boolean measured = i >= warmup;
+                measure(connection.request("textDocument/completion",
+                        position(uri, scenario.completionLine, scenario.completionCharacter)), measured ? completion : null);
+                measure(connection.request("textDocument/hover",
+                        position(uri, scenario.hoverLine, scenario.hoverCharacter)), measured ? hover : null);
+                if (measured && i % 10 == 0) {
+                    // Diagnostics after a change of the document
+                    nextDiagnostics.set(new CompletableFuture<>());
+                    start = System.nanoTime();
+                    connection.notify("textDocument/didChange", didChange(uri, i + 2, text));
+                    awaitDiagnostics(nextDiagnostics.get(), start, diagnostics);
+                }
+            }
+            shutdown(connection);
+        }
+
+        System.out.println("[" + scenario.serverId + "] startup     " + startup.format());
+        System.out.println("[" + scenario.serverId + "] completion  " + completion.format());
+        System.out.println("[" + scenario.serverId + "] hover       " + hover.format());
+        System.out.println("[" + scenario.serverId + "] diagnostics " + diagnostics.format());
+    }
+
+    /**
+     * Starts the language server and records the time to the initialize response.
+     */
+    private LspConnection start(BenchmarkScenario scenario, File projectDir, ClientFixture fixture,
+                                LatencyRecorder startup)
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(scenario.getCommandLine(serverDir, javaHome, jvmArgs)).start();
+        LspConnection connection = new LspConnection(process, fixture);
+        JsonObject params = new JsonObject();
+        params.addProperty("processId", ProcessHandle.current().pid());
+        params.addProperty("rootUri", projectDir.toURI().toString());
+        params.add("capabilities", new JsonObject());
+        JsonObject extendedClientCapabilities = new JsonObject();
+        extendedClientCapabilities.addProperty("shouldLanguageServerExitOnShutdown", true);
+        JsonObject initializationOptions = new JsonObject();
+        initializationOptions.add("extendedClientCapabilities", extendedClientCapabilities);
+        params.add("initializationOptions", initializationOptions);
+        connection.request("initialize", params).get(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        startup.record(System.nanoTime() - start);
+        return connection;
+    }
+
+    private static void shutdown(LspConnection connection) {
+        try {
+            connection.request("shutdown", null).get(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            connection.notify("exit", null);
+        } catch (Exception e) {
+            // The process is destroyed on close
+        }
+    }
+
+    private static void measure(CompletableFuture<?> request, LatencyRecorder recorder)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long start = System.nanoTime();
+        request.get(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - start);
+        }
+    }
+
+    private static void awaitDiagnostics(CompletableFuture<Void> diagnostics, long start, LatencyRecorder recorder)
+            throws InterruptedException, ExecutionException {
+        try {
+            diagnostics.get(DIAGNOSTICS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            recorder.record(System.nanoTime() - start);
+        } catch (TimeoutException e) {
+            // The language server publishes no diagnostics for this document
+        }
+    }
+
+    private static JsonObject position(String uri, int line, int character) {
+        JsonObject textDocument = new JsonObject();
+        textDocument.addProperty("uri", uri);
+        JsonObject position = new JsonObject();
+        position.addProperty("line", line);
+        position.addProperty("character", character);
+        JsonObject params = new JsonObject();
+        params.add("textDocument", textDocument);
+        params.add("position", position);
+        return params;
+    }
+
+    private static JsonObject didChange(String uri, int version, String text) {
+        JsonObject textDocument = new JsonObject();
+        textDocument.addProperty("uri", uri);
+        textDocument.addProperty("version", version);
+        JsonObject change = new JsonObject();
+        change.addProperty("text", text);
+        JsonArray changes = new JsonArray();
+        changes.add(change);
+        JsonObject params = new JsonObject();
+        params.add("textDocument", textDocument);
+        params.add("contentChanges", changes);
+        return params;
+    }
+}
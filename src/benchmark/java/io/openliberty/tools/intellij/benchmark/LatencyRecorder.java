@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Records latencies in nanoseconds and reports their percentiles in milliseconds.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[64];
+
+    private int count;
+
+    void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the given percentile (nearest-rank) in milliseconds.
+     */
+    double percentile(double percentile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    String format() {
+        return String.format("n=%d p50=%.2fms p95=%.2fms p99=%.2fms", count, percentile(50), percentile(95), percentile(99));
+    }
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Minimal JSON-RPC client of a language server over its stdio.
+ *
+ * <p>
+ * Requests sent by the language server to the client (configuration, capability registration, MicroProfile or
+ * Jakarta project information...) are answered by the {@link ClientFixture} of the sample project, so the benchmark
+ * measures the language server alone, with the project information of a real project.
+ * </p>
+ */
+class LspConnection implements AutoCloseable {
+
+    private static final Gson GSON = new Gson();
+
+    private final Process process;
+
+    private final ClientFixture fixture;
+
+    private final OutputStream out;
+
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private final Map<Integer, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
+
+    private final Map<String, Consumer<JsonObject>> notificationHandlers = new ConcurrentHashMap<>();
+
+    LspConnection(Process process, ClientFixture fixture) {
+        this.process = process;
+        this.fixture = fixture;
+        this.out = process.getOutputStream();
+        Thread reader = new Thread(this::readMessages, "lsp-reader");
+        reader.setDaemon(true);
+        reader.start();
+        Thread stderr = new Thread(() -> {
+            try {
+                process.getErrorStream().transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                // The process exited
+            }
+        }, "lsp-stderr");
+        stderr.setDaemon(true);
+        stderr.start();
+    }
+
+    CompletableFuture<JsonElement> request(String method, JsonElement params) {
+        int id = nextId.incrementAndGet();
+        CompletableFuture<JsonElement> result = new CompletableFuture<>();
+        pendingRequests.put(id, result);
+        JsonObject message = new JsonObject();
+        message.addProperty("jsonrpc", "2.0");
+        message.addProperty("id", id);
+        message.addProperty("method", method);
+        message.add("params", params);
+        send(message);
+        return result;
+    }
+
+    void notify(String method, JsonElement params) {
+        JsonObject message = new JsonObject();
+        message.addProperty("jsonrpc", "2.0");
+        message.addProperty("method", method);
+        message.add("params", params);
+        send(message);
+    }
+
+    void onNotification(String method, Consumer<JsonObject> handler) {
+        notificationHandlers.put(method, handler);
+    }
+
+    private synchronized void send(JsonObject message) {
+        byte[] content = GSON.toJson(message).getBytes(StandardCharsets.UTF_8);
+        try {
+            out.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(content);
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to send " + message.get("method") + " to the language server", e);
+        }
+    }
+
+    private void readMessages() {
+        try (InputStream in = new BufferedInputStream(process.getInputStream())) {
+            while (true) {
+                int contentLength = readContentLength(in);
+                if (contentLength < 0) {
+                    break;
+                }
+                byte[] content = in.readNBytes(contentLength);
+                handle(GSON.fromJson(new String(content, StandardCharsets.UTF_8), JsonObject.class));
+            }
+        } catch (IOException e) {
+            // The process exited
+        }
+        pendingRequests.values().forEach(request -> request.completeExceptionally(
+                new IllegalStateException("The language server exited")));
+    }
+
+    private static int readContentLength(InputStream in) throws IOException {
+        int contentLength = -1;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                String header = line.toString(StandardCharsets.US_ASCII).trim();
+                line.reset();
+                if (header.isEmpty()) {
+                    if (contentLength >= 0) {
+                        return contentLength;
+                    }
+                } else if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    contentLength = Integer.parseInt(header.substring(15).trim());
+                }
+            } else {
+                line.write(c);
+            }
+        }
+        return -1;
+    }
+
+    private void handle(JsonObject message) {
+        JsonElement id = message.get("id");
+        JsonElement method = message.get("method");
+        if (method == null && id != null) {
+            // Response
+            CompletableFuture<JsonElement> request = pendingRequests.remove(id.getAsInt());
+            if (request != null) {
+                if (message.has("error")) {
+                    request.completeExceptionally(new IllegalStateException(message.get("error").toString()));
+                } else {
+                    request.complete(message.get("result"));
+                }
+            }
+        } else if (id != null) {
+            // Request from the language server
+            JsonObject response = new JsonObject();
+            response.addProperty("jsonrpc", "2.0");
+            response.add("id", id);
+            response.add("result", fixture.getResult(method.getAsString(), message.getAsJsonObject("params")));
+            send(response);
+        } else if (method != null) {
+            Consumer<JsonObject> handler = notificationHandlers.get(method.getAsString());
+            if (handler != null) {
+                handler.accept(message.getAsJsonObject("params"));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+    }
+}
@@ -15,6 +15,7 @@ import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowFactory;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.content.ContentManager;
+import io.openliberty.tools.intellij.lsp.metrics.LanguageClientMetricsPanel;
 import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -29,5 +30,11 @@ final class LibertyDevToolWindowFactory implements ToolWindowFactory {
                 LocalizedResourceUtil.getMessage("liberty.tool.window.display.name"), false);
         contentManager.addContent(content);
 
+        // language client metrics
+        LanguageClientMetricsPanel metricsPanel = new LanguageClientMetricsPanel(project);
+        Content metricsContent = contentManager.getFactory().createContent(metricsPanel,
+                LocalizedResourceUtil.getMessage("liberty.tool.window.metrics.display.name"), false);
+        metricsContent.setDisposer(metricsPanel);
+        contentManager.addContent(metricsContent);
     }
 }
@@ -10,12 +10,12 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.liberty.lsp;
 
-import com.intellij.execution.configurations.GeneralCommandLine;
 import com.intellij.ide.plugins.IdeaPluginDescriptor;
 import com.intellij.ide.plugins.PluginManagerCore;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.lsp.LanguageServerProcessProvider;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import io.openliberty.tools.intellij.util.Constants;
 import org.slf4j.Logger;
@@ -23,13 +23,14 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Start Liberty Language Server
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusServer.java
  */
-public class LibertyConfigLanguageServer extends OSProcessStreamConnectionProvider {
+public class LibertyConfigLanguageServer extends LanguageServerProcessProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(LibertyConfigLanguageServer.class);
 
     public LibertyConfigLanguageServer() {
@@ -45,9 +46,10 @@ public class LibertyConfigLanguageServer extends OSProcessStreamConnectionProvid
 
             // Uncomment next line to attach debugger to LCLS at port 1064, debug params must come before -jar
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=1064");
+            params.addAll(LanguageServerJvmSettings.getJvmArgs(Constants.LIBERTY_CONFIG_SERVER_ID, List.of(libertyServerPath)));
             params.add("-jar");
             params.add(libertyServerPath.getAbsolutePath());
-            setCommandLine(new GeneralCommandLine(params));
+            setCommandLineParameters(params);
         } else {
             LOGGER.warn(String.format("Unable to start the Liberty language server, Liberty language server path: %s does not exist", libertyServerPath));
         }
@@ -15,11 +15,13 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 import com.redhat.devtools.lsp4ij.LanguageServerFactory;
 import com.redhat.devtools.lsp4ij.client.LanguageClientImpl;
 import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.util.Constants;
 
 public class LibertyConfigLanguageServerFactory implements LanguageServerFactory {
     @Override
     public StreamConnectionProvider createConnectionProvider(Project project) {
-        return new LibertyConfigLanguageServer();
+        return LanguageServerJvmSettings.createConnectionProvider(Constants.LIBERTY_CONFIG_SERVER_ID, new LibertyConfigLanguageServer());
     }
 
     @Override
@@ -10,12 +10,12 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.liberty.lsp;
 
-import com.intellij.execution.configurations.GeneralCommandLine;
 import com.intellij.ide.plugins.IdeaPluginDescriptor;
 import com.intellij.ide.plugins.PluginManagerCore;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.lsp.LanguageServerProcessProvider;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import io.openliberty.tools.intellij.util.Constants;
 import org.slf4j.Logger;
@@ -24,13 +24,14 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Start LemMinX language server with Liberty LemMinX ext
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusServer.java
  */
-public class LibertyXmlServer extends OSProcessStreamConnectionProvider {
+public class LibertyXmlServer extends LanguageServerProcessProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(LibertyXmlServer.class);
 
     public LibertyXmlServer() {
@@ -48,10 +49,11 @@ public class LibertyXmlServer extends OSProcessStreamConnectionProvider {
             // Comment out line 46 and replace with the one below for debugging LemMinX, will pause server until debugger attaches to port 1054
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,address=1054");
             // params.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=1054,quiet=y");
+            params.addAll(LanguageServerJvmSettings.getJvmArgs(Constants.LIBERTY_XML_SERVER_ID, List.of(lemminxServerPath, libertyServerPath)));
             params.add("-cp");
             params.add(lemminxServerPath.getAbsolutePath() + File.pathSeparator + libertyServerPath.getAbsolutePath());
             params.add("org.eclipse.lemminx.XMLServerLauncher");
-            setCommandLine(new GeneralCommandLine(params));
+            setCommandLineParameters(params);
         } else {
             LOGGER.warn(String.format("Unable to start the LemMinX language server. LemMinX server path: %s or Liberty LemMinX extension server path: %s does not exist"), lemminxServerPath, libertyServerPath);
         }
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.ui.JBIntSpinner;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBTabbedPane;
+import com.intellij.ui.components.JBTextField;
+import com.intellij.util.ui.FormBuilder;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.Nls;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings page of the JVM profiles of the language servers.
+ */
+public class LanguageServerJvmConfigurable implements Configurable {
+
+    private final List<ProfilePanel> profilePanels = new ArrayList<>();
+
+    private JPanel myMainPanel;
+
+    private JBCheckBox sharedHost;
+
+    @Override
+    public @Nls(capitalization = Nls.Capitalization.Title) String getDisplayName() {
+        return LocalizedResourceUtil.getMessage("language.servers.jvm.settings");
+    }
+
+    @Override
+    public JComponent createComponent() {
+        if (myMainPanel == null) {
+            JBTabbedPane tabs = new JBTabbedPane();
+            for (String serverId : LanguageServerJvmSettings.SERVER_IDS) {
+                ProfilePanel profilePanel = new ProfilePanel(serverId);
+                profilePanels.add(profilePanel);
+                tabs.addTab(LocalizedResourceUtil.getMessage("language.server." + serverId), profilePanel.panel);
+            }
+            JBLabel restartLabel = new JBLabel(LocalizedResourceUtil.getMessage("language.servers.jvm.restart"));
+            restartLabel.setComponentStyle(UIUtil.ComponentStyle.SMALL);
+            sharedHost = new JBCheckBox(LocalizedResourceUtil.getMessage("language.servers.shared.host"));
+            sharedHost.setToolTipText(LocalizedResourceUtil.getMessage("language.servers.shared.host.tool.tip"));
+            myMainPanel = JBUI.Panels.simplePanel(10, 10)
+                    .addToTop(FormBuilder.createFormBuilder()
+                            .addComponent(restartLabel)
+                            .addComponent(sharedHost)
+                            .getPanel())
+                    .addToCenter(tabs);
+            reset();
+        }
+        return myMainPanel;
+    }
+
+    @Override
+    public boolean isModified() {
+        LanguageServerJvmSettings settings = LanguageServerJvmSettings.getInstance();
+        if (sharedHost.isSelected() != settings.isSharedHost()) {
+            return true;
+        }
+        return profilePanels.stream()
+                .anyMatch(profilePanel -> !profilePanel.getProfile().equals(settings.getProfile(profilePanel.serverId)));
+    }
+
+    @Override
+    public void apply() {
+        List<LanguageServerJvmProfile> profiles = new ArrayList<>();
+        for (ProfilePanel profilePanel : profilePanels) {
+            profiles.add(profilePanel.getProfile());
+        }
+        LanguageServerJvmSettings settings = LanguageServerJvmSettings.getInstance();
+        settings.setProfiles(profiles);
+        settings.setSharedHost(sharedHost.isSelected());
+    }
+
+    @Override
+    public void reset() {
+        LanguageServerJvmSettings settings = LanguageServerJvmSettings.getInstance();
+        sharedHost.setSelected(settings.isSharedHost());
+        for (ProfilePanel profilePanel : profilePanels) {
+            profilePanel.setProfile(settings.getProfile(profilePanel.serverId));
+        }
+    }
+
+    @Override
+    public void disposeUIResources() {
+        profilePanels.clear();
+        myMainPanel = null;
+        sharedHost = null;
+    }
+
+    private static class ProfilePanel {
+
+        private final String serverId;
+
+        private final JBIntSpinner minHeap = new JBIntSpinner(0, 0, 65536, 64);
+
+        private final JBIntSpinner maxHeap = new JBIntSpinner(0, 0, 65536, 64);
+
+        private final ComboBox<LanguageServerJvmProfile.GarbageCollector> garbageCollector =
+                new ComboBox<>(LanguageServerJvmProfile.GarbageCollector.values());
+
+        private final ComboBox<LanguageServerJvmProfile.CompilerMode> compilerMode =
+                new ComboBox<>(LanguageServerJvmProfile.CompilerMode.values());
+
+        private final JBTextField extraJvmArgs = new JBTextField();
+
+        private final JPanel panel;
+
+        ProfilePanel(String serverId) {
+            this.serverId = serverId;
+            JButton resetButton = new JButton(LocalizedResourceUtil.getMessage("language.servers.jvm.reset"));
+            resetButton.addActionListener(e -> setProfile(LanguageServerJvmSettings.createDefaultProfile(serverId)));
+            this.panel = FormBuilder.createFormBuilder()
+                    .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.min.heap"), minHeap)
+                    .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.max.heap"), maxHeap)
+                    .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.gc"), garbageCollector)
+                    .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.compiler"), compilerMode)
+                    .addLabeledComponent(LocalizedResourceUtil.getMessage("language.servers.jvm.extra.args"), extraJvmArgs)
+                    .addComponent(resetButton)
+                    .addComponentFillVertically(new JPanel(), 0)
+                    .getPanel();
+        }
+
+        LanguageServerJvmProfile getProfile() {
+            LanguageServerJvmProfile profile = new LanguageServerJvmProfile(serverId, minHeap.getNumber(),
+                    maxHeap.getNumber(), garbageCollector.getItem());
+            profile.setCompilerMode(compilerMode.getItem());
+            profile.setExtraJvmArgs(extraJvmArgs.getText().trim());
+            return profile;
+        }
+
+        void setProfile(LanguageServerJvmProfile profile) {
+            minHeap.setNumber(profile.getMinHeapMb());
+            maxHeap.setNumber(profile.getMaxHeapMb());
+            garbageCollector.setItem(profile.getGarbageCollector());
+            compilerMode.setItem(profile.getCompilerMode());
+            extraJvmArgs.setText(profile.getExtraJvmArgs());
+        }
+    }
+}
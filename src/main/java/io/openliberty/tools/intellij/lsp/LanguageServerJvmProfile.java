@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.util.execution.ParametersListUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JVM settings used to start a language server process.
+ */
+public class LanguageServerJvmProfile {
+
+    /**
+     * Garbage collector of the language server JVM.
+     */
+    public enum GarbageCollector {
+        DEFAULT(null),
+        SERIAL("-XX:+UseSerialGC"),
+        PARALLEL("-XX:+UseParallelGC"),
+        G1("-XX:+UseG1GC"),
+        ZGC("-XX:+UseZGC");
+
+        private final String jvmArg;
+
+        GarbageCollector(String jvmArg) {
+            this.jvmArg = jvmArg;
+        }
+    }
+
+    /**
+     * JIT compiler mode of the language server JVM.
+     */
+    public enum CompilerMode {
+        /**
+         * Tiered compilation, the JVM default.
+         */
+        TIERED(null),
+        /**
+         * C1 only (<code>-XX:TieredStopAtLevel=1</code>), faster warmup and lower footprint for short sessions.
+         */
+        QUICK_STARTUP("-XX:TieredStopAtLevel=1"),
+        /**
+         * C2 only (<code>-XX:-TieredCompilation</code>), slower warmup for long sessions.
+         */
+        OPTIMIZED("-XX:-TieredCompilation");
+
+        private final String jvmArg;
+
+        CompilerMode(String jvmArg) {
+            this.jvmArg = jvmArg;
+        }
+    }
+
+    private String serverId;
+
+    private int minHeapMb;
+
+    private int maxHeapMb;
+
+    private GarbageCollector garbageCollector = GarbageCollector.DEFAULT;
+
+    private CompilerMode compilerMode = CompilerMode.TIERED;
+
+    private String extraJvmArgs = "";
+
+    public LanguageServerJvmProfile() {
+    }
+
+    public LanguageServerJvmProfile(String serverId, int minHeapMb, int maxHeapMb, GarbageCollector garbageCollector) {
+        this.serverId = serverId;
+        this.minHeapMb = minHeapMb;
+        this.maxHeapMb = maxHeapMb;
+        this.garbageCollector = garbageCollector;
+    }
+
+    public String getServerId() {
+        return serverId;
+    }
+
+    public void setServerId(String serverId) {
+        this.serverId = serverId;
+    }
+
+    /**
+     * Returns the initial heap size in MB (<code>-Xms</code>), 0 to use the JVM default.
+     */
+    public int getMinHeapMb() {
+        return minHeapMb;
+    }
+
+    public void setMinHeapMb(int minHeapMb) {
+        this.minHeapMb = minHeapMb;
+    }
+
+    /**
+     * Returns the maximum heap size in MB (<code>-Xmx</code>), 0 to use the JVM default.
+     */
+    public int getMaxHeapMb() {
+        return maxHeapMb;
+    }
+
+    public void setMaxHeapMb(int maxHeapMb) {
+        this.maxHeapMb = maxHeapMb;
+    }
+
+    public GarbageCollector getGarbageCollector() {
+        return garbageCollector;
+    }
+
+    public void setGarbageCollector(GarbageCollector garbageCollector) {
+        this.garbageCollector = garbageCollector;
+    }
+
+    public CompilerMode getCompilerMode() {
+        return compilerMode;
+    }
+
+    public void setCompilerMode(CompilerMode compilerMode) {
+        this.compilerMode = compilerMode;
+    }
+
+    /**
+     * Returns the additional JVM arguments, separated by spaces.
+     */
+    public String getExtraJvmArgs() {
+        return extraJvmArgs;
+    }
+
+    public void setExtraJvmArgs(String extraJvmArgs) {
+        this.extraJvmArgs = extraJvmArgs;
+    }
+
+    /**
+     * Returns the JVM arguments of this profile.
+     *
+     * @return the JVM arguments of this profile.
+     */
+    public List<String> toJvmArgs() {
+        List<String> jvmArgs = new ArrayList<>();
+        if (minHeapMb > 0) {
+            // The initial heap size cannot be greater than the maximum heap size
+            jvmArgs.add("-Xms" + (maxHeapMb > 0 ? Math.min(minHeapMb, maxHeapMb) : minHeapMb) + "m");
+        }
+        if (maxHeapMb > 0) {
+            jvmArgs.add("-Xmx" + maxHeapMb + "m");
+        }
+        if (garbageCollector != null && garbageCollector.jvmArg != null) {
+            jvmArgs.add(garbageCollector.jvmArg);
+        }
+        if (compilerMode != null && compilerMode.jvmArg != null) {
+            jvmArgs.add(compilerMode.jvmArg);
+        }
+        if (extraJvmArgs != null && !extraJvmArgs.isBlank()) {
+            jvmArgs.addAll(ParametersListUtil.parse(extraJvmArgs));
+        }
+        return jvmArgs;
+    }
+
+    public LanguageServerJvmProfile copy() {
+        LanguageServerJvmProfile copy = new LanguageServerJvmProfile(serverId, minHeapMb, maxHeapMb, garbageCollector);
+        copy.setCompilerMode(compilerMode);
+        copy.setExtraJvmArgs(extraJvmArgs);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LanguageServerJvmProfile that)) {
+            return false;
+        }
+        return minHeapMb == that.minHeapMb && maxHeapMb == that.maxHeapMb && Objects.equals(serverId, that.serverId)
+                && garbageCollector == that.garbageCollector && compilerMode == that.compilerMode
+                && Objects.equals(extraJvmArgs, that.extraJvmArgs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverId, minHeapMb, maxHeapMb, garbageCollector, compilerMode, extraJvmArgs);
+    }
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.util.xmlb.annotations.XCollection;
+import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import io.openliberty.tools.intellij.util.ClassDataSharingArchives;
+import io.openliberty.tools.intellij.util.Constants;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM profiles of the language servers started by Liberty Tools.
+ *
+ * <p>
+ * When a language server has no saved profile, a default profile sized from the physical memory of the machine is
+ * used, so the heap of the four language server JVMs stays bounded.
+ * </p>
+ */
+@State(
+        name = "LibertyLanguageServerJvmSettings",
+        storages = @Storage("libertyLanguageServers.xml")
+)
+public final class LanguageServerJvmSettings implements PersistentStateComponent<LanguageServerJvmSettings.MyState> {
+
+    /**
+     * Ids of the language servers, as declared in lsp.xml.
+     */
+    public static final List<String> SERVER_IDS = List.of(Constants.MICROPROFILE_SERVER_ID,
+            Constants.JAKARTA_LANG_SERVER_ID, Constants.LIBERTY_XML_SERVER_ID, Constants.LIBERTY_CONFIG_SERVER_ID);
+
+    private volatile MyState myState = new MyState();
+
+    public static @NotNull LanguageServerJvmSettings getInstance() {
+        return ApplicationManager.getApplication().getService(LanguageServerJvmSettings.class);
+    }
+
+    /**
+     * Returns the JVM arguments to start the given language server.
+     *
+     * @param serverId  the language server id.
+     * @param classpath the jars of the language server.
+     * @return the JVM arguments to start the given language server.
+     */
+    public static List<String> getJvmArgs(String serverId, List<File> classpath) {
+        List<String> jvmArgs = new ArrayList<>(getInstance().getProfile(serverId).toJvmArgs());
+        jvmArgs.addAll(ClassDataSharingArchives.getJvmArgs(serverId, classpath));
+        return jvmArgs;
+    }
+
+    /**
+     * Returns a copy of the JVM profile of the given language server.
+     *
+     * @param serverId the language server id.
+     * @return a copy of the JVM profile of the given language server.
+     */
+    public @NotNull LanguageServerJvmProfile getProfile(String serverId) {
+        for (LanguageServerJvmProfile profile : myState.profiles) {
+            if (serverId.equals(profile.getServerId())) {
+                return profile.copy();
+            }
+        }
+        return createDefaultProfile(serverId);
+    }
+
+    /**
+     * Returns true if the language servers run in a single shared JVM ({@link SharedLanguageServerHost}) and false
+     * if each language server runs in its own JVM.
+     *
+     * @return true if the language servers run in a single shared JVM and false otherwise.
+     */
+    public boolean isSharedHost() {
+        return myState.sharedHost;
+    }
+
+    public void setSharedHost(boolean sharedHost) {
+        myState.sharedHost = sharedHost;
+    }
+
+    /**
+     * Returns the connection to the given language server: the language server process or, in the shared host mode,
+     * the language server hosted in the shared JVM.
+     *
+     * @param serverId the language server id.
+     * @param server   the language server process.
+     * @return the connection to the given language server.
+     */
+    public static StreamConnectionProvider createConnectionProvider(String serverId, LanguageServerProcessProvider server) {
+        return getInstance().isSharedHost() ? new SharedHostConnectionProvider(serverId, server) : server;
+    }
+
+    public void setProfiles(List<LanguageServerJvmProfile> profiles) {
+        MyState state = new MyState();
+        state.sharedHost = myState.sharedHost;
+        for (LanguageServerJvmProfile profile : profiles) {
+            // Only the profiles changed by the user are stored, so the defaults follow the machine
+            if (!profile.equals(createDefaultProfile(profile.getServerId()))) {
+                state.profiles.add(profile.copy());
+            }
+        }
+        myState = state;
+    }
+
+    /**
+     * Returns the default JVM profile of the given language server.
+     *
+     * <p>
+     * LSP4MP and LemMinX hold the metadata of all the projects and get 1/16 of the physical memory between
+     * 512MB and 2GB with the default garbage collector. LSP4Jakarta and the Liberty config language server get
+     * 1/32 of the physical memory between 256MB and 1GB with the serial garbage collector which has the lowest
+     * footprint.
+     * </p>
+     *
+     * @param serverId the language server id.
+     * @return the default JVM profile of the given language server.
+     */
+    public static @NotNull LanguageServerJvmProfile createDefaultProfile(String serverId) {
+        long physicalMemoryMb = getPhysicalMemoryMb();
+        if (Constants.MICROPROFILE_SERVER_ID.equals(serverId) || Constants.LIBERTY_XML_SERVER_ID.equals(serverId)) {
+            return new LanguageServerJvmProfile(serverId, 64, clamp(physicalMemoryMb / 16, 512, 2048),
+                    LanguageServerJvmProfile.GarbageCollector.DEFAULT);
+        }
+        return new LanguageServerJvmProfile(serverId, 32, clamp(physicalMemoryMb / 32, 256, 1024),
+                LanguageServerJvmProfile.GarbageCollector.SERIAL);
+    }
+
+    private static int clamp(long value, int min, int max) {
+        return (int) Math.max(min, Math.min(max, value));
+    }
+
+    private static long getPhysicalMemoryMb() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getTotalMemorySize() / (1024 * 1024);
+        }
+        // Unknown physical memory, use the lowest defaults
+        return 0;
+    }
+
+    @Override
+    public MyState getState() {
+        return myState;
+    }
+
+    @Override
+    public void loadState(@NotNull MyState state) {
+        myState = state;
+    }
+
+    public static class MyState {
+
+        @XCollection
+        public List<LanguageServerJvmProfile> profiles = new ArrayList<>();
+
+        public boolean sharedHost;
+
+        public MyState() {
+        }
+    }
+}
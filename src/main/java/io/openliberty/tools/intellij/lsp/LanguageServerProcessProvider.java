@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Language server started in its own process with a <code>java</code> command line.
+ */
+public abstract class LanguageServerProcessProvider extends OSProcessStreamConnectionProvider {
+
+    private List<String> commandLineParameters;
+
+    /**
+     * Sets the command line of the language server process.
+     *
+     * @param commandLineParameters the java executable followed by its arguments.
+     */
+    protected void setCommandLineParameters(List<String> commandLineParameters) {
+        this.commandLineParameters = List.copyOf(commandLineParameters);
+        setCommandLine(new GeneralCommandLine(commandLineParameters));
+    }
+
+    /**
+     * Returns the java executable followed by its arguments and null if the language server cannot be started.
+     *
+     * @return the java executable followed by its arguments and null if the language server cannot be started.
+     */
+    public @Nullable List<String> getCommandLineParameters() {
+        return commandLineParameters;
+    }
+}
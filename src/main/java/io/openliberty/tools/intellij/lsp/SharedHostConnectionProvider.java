@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection to a language server running in the {@link SharedLanguageServerHost}.
+ *
+ * <p>
+ * The language server is started with the command line and the initialization options of the given
+ * {@link LanguageServerProcessProvider}, except that the server must not exit the JVM on shutdown since the JVM
+ * hosts the other language servers. The host doesn't forward the <code>exit</code> notification either, it stops
+ * the threads of the language server when its connection is closed.
+ * </p>
+ */
+public class SharedHostConnectionProvider implements StreamConnectionProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedHostConnectionProvider.class);
+
+    private final String serverId;
+
+    private final LanguageServerProcessProvider delegate;
+
+    private Socket socket;
+
+    public SharedHostConnectionProvider(String serverId, LanguageServerProcessProvider delegate) {
+        this.serverId = serverId;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void start() {
+        List<String> commandLineParameters = delegate.getCommandLineParameters();
+        if (commandLineParameters == null) {
+            throw new IllegalStateException("Unable to start the " + serverId + " language server");
+        }
+        try {
+            socket = SharedLanguageServerHost.getInstance().connect(serverId, commandLineParameters);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to start the " + serverId + " language server in the shared host", e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        try {
+            return socket != null ? socket.getInputStream() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        try {
+            return socket != null ? socket.getOutputStream() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isAlive() {
+        return socket != null && !socket.isClosed();
+    }
+
+    @Override
+    public Object getInitializationOptions(VirtualFile rootUri) {
+        Object options = delegate.getInitializationOptions(rootUri);
+        if (options instanceof Map<?, ?> root
+                && root.get("extendedClientCapabilities") instanceof Map<?, ?> extendedClientCapabilities) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> capabilities = (Map<String, Object>) extendedClientCapabilities;
+            capabilities.put("shouldLanguageServerExitOnShutdown", Boolean.FALSE);
+        }
+        return options;
+    }
+
+    @Override
+    public void stop() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error while closing the connection to the " + serverId + " language server", e);
+            }
+            socket = null;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import io.openliberty.tools.intellij.lsp.host.LanguageServerHost;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JVM which hosts all the language servers when the shared host mode is enabled.
+ *
+ * <p>
+ * The host process ({@link LanguageServerHost}) is started on the first connection and stops when the IDE exits.
+ * It is restarted by the next connection if it died. When the host is retired because the threads of a stopped
+ * language server are still running, the next connections start a new host and the retired host exits once its last
+ * language server is stopped.
+ * </p>
+ */
+public final class SharedLanguageServerHost implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedLanguageServerHost.class);
+
+    private Process process;
+
+    /**
+     * The retired hosts which still run language servers.
+     */
+    private final List<Process> retiredProcesses = new ArrayList<>();
+
+    private String token;
+
+    private int port;
+
+    public static @NotNull SharedLanguageServerHost getInstance() {
+        return ApplicationManager.getApplication().getService(SharedLanguageServerHost.class);
+    }
+
+    /**
+     * Starts a language server in the host and returns the socket whose streams are the stdio of the language server.
+     *
+     * @param serverId              the language server id.
+     * @param commandLineParameters the java command line of the language server.
+     * @return the socket whose streams are the stdio of the language server.
+     * @throws IOException if the host cannot be started or the language server cannot be started in the host.
+     */
+    public synchronized Socket connect(String serverId, List<String> commandLineParameters) throws IOException {
+        ensureStarted();
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeUTF(token);
+        out.writeUTF(serverId);
+        // The java executable is not sent
+        List<String> arguments = commandLineParameters.subList(1, commandLineParameters.size());
+        out.writeInt(arguments.size());
+        for (String argument : arguments) {
+            out.writeUTF(argument);
+        }
+        out.flush();
+        return socket;
+    }
+
+    private void ensureStarted() throws IOException {
+        if (process != null && process.isAlive()) {
+            return;
+        }
+        List<String> params = new ArrayList<>();
+        params.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        params.addAll(getJvmArgs());
+        params.add("-cp");
+        params.add(PathManager.getJarPathForClass(LanguageServerHost.class));
+        params.add(LanguageServerHost.class.getName());
+        Process host;
+        try {
+            host = new GeneralCommandLine(params).createProcess();
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to start the shared language server host", e);
+        }
+        process = host;
+        token = UUID.randomUUID().toString();
+        // The standard input of the host stays open until the IDE exits
+        OutputStream hostIn = host.getOutputStream();
+        hostIn.write((token + "\n").getBytes(StandardCharsets.UTF_8));
+        hostIn.flush();
+        BufferedReader hostOut = new BufferedReader(new InputStreamReader(host.getInputStream(), StandardCharsets.UTF_8));
+        String portLine = hostOut.readLine();
+        if (portLine == null) {
+            host.destroy();
+            throw new IOException("The shared language server host exited with code " + waitFor(host));
+        }
+        port = Integer.parseInt(portLine.trim());
+        Thread retirementListener = new Thread(() -> {
+            try {
+                String line;
+                while ((line = hostOut.readLine()) != null) {
+                    if (LanguageServerHost.RETIRED.equals(line.trim())) {
+                        retire(host);
+                    }
+                }
+            } catch (IOException e) {
+                // The host exited
+            }
+        }, "Liberty language server host listener");
+        retirementListener.setDaemon(true);
+        retirementListener.start();
+        Thread logger = new Thread(() -> {
+            try (BufferedReader hostErr = new BufferedReader(new InputStreamReader(host.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = hostErr.readLine()) != null) {
+                    LOGGER.info("[shared host] " + line);
+                }
+            } catch (IOException e) {
+                // The host exited
+            }
+        }, "Liberty language server host logger");
+        logger.setDaemon(true);
+        logger.start();
+        LOGGER.info("Started the shared language server host on port " + port);
+    }
+
+    private synchronized void retire(Process host) {
+        if (process == host) {
+            LOGGER.info("The shared language server host on port " + port + " is retired");
+            process = null;
+        }
+        retiredProcesses.removeIf(retiredProcess -> !retiredProcess.isAlive());
+        retiredProcesses.add(host);
+    }
+
+    /**
+     * Returns the JVM arguments of the host: its maximum heap is the sum of the maximum heaps of the language servers.
+     */
+    private static List<String> getJvmArgs() {
+        LanguageServerJvmSettings settings = LanguageServerJvmSettings.getInstance();
+        int maxHeapMb = 0;
+        for (String serverId : LanguageServerJvmSettings.SERVER_IDS) {
+            int serverMaxHeapMb = settings.getProfile(serverId).getMaxHeapMb();
+            if (serverMaxHeapMb <= 0) {
+                // A server uses the JVM default, so does the host
+                return List.of();
+            }
+            maxHeapMb += serverMaxHeapMb;
+        }
+        return List.of("-Xmx" + maxHeapMb + "m");
+    }
+
+    private static int waitFor(Process process) {
+        try {
+            return process.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        if (process != null) {
+            process.destroy();
+            process = null;
+        }
+        retiredProcesses.forEach(Process::destroy);
+        retiredProcesses.clear();
+    }
+}
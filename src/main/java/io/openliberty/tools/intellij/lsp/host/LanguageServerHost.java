@@ -0,0 +1,446 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp.host;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+
+/**
+ * Main class of the JVM which hosts all the language servers in the shared host mode.
+ *
+ * <p>
+ * This class runs outside the IDE and must only use the JDK. The IDE writes a secret token on the standard input
+ * of the host and reads the port of the host from its standard output. Each language server is then started by a
+ * socket connection which sends:
+ * </p>
+ *
+ * <pre>
+ * UTF token, UTF server id, int argument count, argument count * UTF argument
+ * </pre>
+ *
+ * <p>
+ * where the arguments are the <code>java</code> command line arguments of the server (<code>-jar</code> or
+ * <code>-cp</code> and main class, followed by the program arguments); JVM options are ignored. The socket streams
+ * are then the stdio of the server: each server runs in its own class loader and thread group, and its
+ * <code>main</code> method is called while <code>System.in</code>/<code>System.out</code> are the streams of its
+ * socket, until its launcher has captured them. The servers are started one at a time, and the output written to
+ * <code>System.out</code> afterwards goes to the log of the host.
+ * </p>
+ *
+ * <p>
+ * The language servers call <code>System.exit</code> on the <code>exit</code> notification, which would stop all
+ * the servers of the host, so the host doesn't forward this notification but closes the connection of the server.
+ * Once the connection is closed, the threads of the server are interrupted and its class loader is closed when they
+ * have ended. If some threads are still running after {@link #STOP_TIMEOUT_SECONDS}, the host can't release the
+ * server: it is retired, it writes {@link #RETIRED} on its standard output so that the IDE starts the next servers
+ * in a new host, and it exits once its last server is stopped.
+ * </p>
+ *
+ * <p>
+ * The host exits when its standard input is closed, i.e. when the IDE exits.
+ * </p>
+ */
+public final class LanguageServerHost {
+
+    /**
+     * The line written on the standard output of the host when the host must not be used for new servers.
+     */
+    public static final String RETIRED = "retired";
+
+    /**
+     * The maximum time to wait for the threads of a stopped server, longer than the keep-alive time of the cached
+     * thread pools of the servers.
+     */
+    private static final long STOP_TIMEOUT_SECONDS = 90;
+
+    /**
+     * The maximum time to wait for the launcher of a server to capture <code>System.in</code> and
+     * <code>System.out</code>.
+     */
+    private static final long STDIO_CAPTURE_TIMEOUT_SECONDS = 30;
+
+    private static final PrintStream LOG = System.err;
+
+    private static final Object STDIO_LOCK = new Object();
+
+    /**
+     * The number of servers of the host, including the stopped servers whose threads are still running.
+     */
+    private static final AtomicInteger SERVERS = new AtomicInteger();
+
+    private static PrintStream ideOut;
+
+    private static volatile boolean retired;
+
+    private LanguageServerHost() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        BufferedReader ide = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String token = ide.readLine();
+        ideOut = System.out;
+
+        // The output of the servers which is not written to their connection goes to the log of the host
+        System.setIn(InputStream.nullInputStream());
+        System.setOut(LOG);
+
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        writeToIde(String.valueOf(serverSocket.getLocalPort()));
+
+        Thread watchdog = new Thread(() -> {
+            try {
+                while (ide.readLine() != null) {
+                    // Wait until the IDE closes the standard input
+                }
+            } catch (IOException e) {
+                // The IDE is gone
+            }
+            Runtime.getRuntime().halt(0);
+        }, "ide-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+
+        while (true) {
+            Socket socket = serverSocket.accept();
+            Thread thread = new Thread(() -> startServer(socket, token), "server-launcher");
+            thread.start();
+        }
+    }
+
+    private static void startServer(Socket socket, String token) {
+        String serverId = null;
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (!token.equals(in.readUTF())) {
+                LOG.println("Connection refused: invalid token");
+                socket.close();
+                return;
+            }
+            serverId = in.readUTF();
+            List<String> arguments = new ArrayList<>();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                arguments.add(in.readUTF());
+            }
+
+            List<URL> classpath = new ArrayList<>();
+            String mainClass = null;
+            int index = 0;
+            while (index < arguments.size() && mainClass == null) {
+                String argument = arguments.get(index++);
+                if ("-jar".equals(argument)) {
+                    File jar = new File(arguments.get(index++));
+                    classpath.add(jar.toURI().toURL());
+                    try (JarFile jarFile = new JarFile(jar)) {
+                        Attributes attributes = jarFile.getManifest().getMainAttributes();
+                        mainClass = attributes.getValue(Attributes.Name.MAIN_CLASS);
+                        String manifestClasspath = attributes.getValue(Attributes.Name.CLASS_PATH);
+                        if (manifestClasspath != null) {
+                            for (String entry : manifestClasspath.trim().split("\\s+")) {
+                                classpath.add(new URL(jar.toURI().toURL(), entry));
+                            }
+                        }
+                    }
+                } else if ("-cp".equals(argument) || "-classpath".equals(argument)) {
+                    for (String entry : arguments.get(index++).split(File.pathSeparator)) {
+                        classpath.add(new File(entry).toURI().toURL());
+                    }
+                    mainClass = arguments.get(index++);
+                }
+                // Other arguments are JVM options which cannot be applied to a single server
+            }
+            if (mainClass == null) {
+                LOG.println("Unable to start " + serverId + ": no main class in " + arguments);
+                socket.close();
+                return;
+            }
+            String[] programArguments = arguments.subList(index, arguments.size()).toArray(new String[0]);
+            URLClassLoader classLoader = new URLClassLoader(serverId, classpath.toArray(new URL[0]),
+                    ClassLoader.getPlatformClassLoader());
+            runServer(new ServerConnection(serverId, socket), classLoader, mainClass, programArguments);
+        } catch (Exception e) {
+            LOG.println("Unable to start language server " + serverId);
+            e.printStackTrace(LOG);
+            closeQuietly(socket);
+        }
+    }
+
+    private static void runServer(ServerConnection connection, URLClassLoader classLoader, String mainClass,
+                                  String[] programArguments) throws IOException, InterruptedException {
+        SERVERS.incrementAndGet();
+        try {
+            // The threads created by the server (executors, timers...) inherit the thread group of its main thread
+            ThreadGroup threadGroup = new ThreadGroup(connection.serverId);
+            Thread mainThread = new Thread(threadGroup, () -> {
+                try {
+                    Method main = classLoader.loadClass(mainClass).getMethod("main", String[].class);
+                    LOG.println("Starting " + connection.serverId + " (" + mainClass + ")");
+                    main.invoke(null, (Object) programArguments);
+                } catch (InvocationTargetException e) {
+                    LOG.println("Language server " + connection.serverId + " failed");
+                    e.getCause().printStackTrace(LOG);
+                    connection.close();
+                } catch (Exception e) {
+                    LOG.println("Unable to start language server " + connection.serverId);
+                    e.printStackTrace(LOG);
+                    connection.close();
+                } finally {
+                    // Most launchers return from main once the server listens
+                    connection.stdioCaptured.countDown();
+                }
+            }, connection.serverId + "-main");
+            mainThread.setContextClassLoader(classLoader);
+
+            synchronized (STDIO_LOCK) {
+                System.setIn(connection.in);
+                System.setOut(connection.out);
+                try {
+                    mainThread.start();
+                    // The launcher captures System.in and System.out before it reads the first message
+                    if (!connection.stdioCaptured.await(STDIO_CAPTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        LOG.println("Language server " + connection.serverId + " doesn't read its input");
+                    }
+                } finally {
+                    System.setIn(InputStream.nullInputStream());
+                    System.setOut(LOG);
+                }
+            }
+
+            // The server is stopped when the IDE closes the connection or sends the exit notification
+            connection.awaitClose();
+            if (stopThreads(threadGroup)) {
+                classLoader.close();
+                LOG.println("Stopped " + connection.serverId);
+            } else {
+                // The class loader can't be released while the threads of the server are running
+                LOG.println("Threads of " + connection.serverId + " are still running "
+                        + Arrays.toString(getThreads(threadGroup)) + ", the host is retired");
+                retire();
+            }
+        } finally {
+            if (SERVERS.decrementAndGet() == 0 && retired) {
+                LOG.println("Exiting the retired host");
+                Runtime.getRuntime().halt(0);
+            }
+        }
+    }
+
+    /**
+     * Interrupts the threads of a stopped server and returns true if they have all ended before
+     * {@link #STOP_TIMEOUT_SECONDS} and false otherwise.
+     */
+    private static boolean stopThreads(ThreadGroup threadGroup) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECONDS);
+        while (true) {
+            Thread[] threads = getThreads(threadGroup);
+            if (threads.length == 0) {
+                return true;
+            }
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            Thread.sleep(1000);
+        }
+    }
+
+    private static Thread[] getThreads(ThreadGroup threadGroup) {
+        Thread[] threads = new Thread[threadGroup.activeCount() + 16];
+        int count = threadGroup.enumerate(threads, true);
+        return Arrays.copyOf(threads, count);
+    }
+
+    private static void retire() {
+        if (!retired) {
+            retired = true;
+            writeToIde(RETIRED);
+        }
+    }
+
+    private static void writeToIde(String line) {
+        synchronized (ideOut) {
+            ideOut.println(line);
+            ideOut.flush();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    /**
+     * The connection of a language server.
+     */
+    private static class ServerConnection {
+
+        private final String serverId;
+
+        private final Socket socket;
+
+        private final ServerInputStream in;
+
+        private final PrintStream out;
+
+        private final CountDownLatch stdioCaptured = new CountDownLatch(1);
+
+        ServerConnection(String serverId, Socket socket) throws IOException {
+            this.serverId = serverId;
+            this.socket = socket;
+            this.in = new ServerInputStream(this, new BufferedInputStream(socket.getInputStream()));
+            this.out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        synchronized void awaitClose() throws InterruptedException {
+            while (!socket.isClosed()) {
+                wait(1000);
+            }
+        }
+
+        synchronized void close() {
+            closeQuietly(socket);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Input stream of a language server, which reads the LSP messages of the IDE and doesn't forward the
+     * <code>exit</code> notification.
+     */
+    private static class ServerInputStream extends InputStream {
+
+        private static final byte[] HEADERS_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+        private static final String CONTENT_LENGTH = "Content-Length:";
+
+        /**
+         * The exit notification has no parameters, so its content is short, unlike a request whose parameters
+         * would contain the same text.
+         */
+        private static final int MAX_EXIT_LENGTH = 128;
+
+        private static final Pattern EXIT = Pattern.compile("\"method\"\\s*:\\s*\"exit\"");
+
+        private final ServerConnection connection;
+
+        private final InputStream in;
+
+        private byte[] message = new byte[0];
+
+        private int position;
+
+        ServerInputStream(ServerConnection connection, InputStream in) {
+            this.connection = connection;
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            // The launcher of the server has captured its stdio once it reads its input
+            connection.stdioCaptured.countDown();
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                if (position == message.length && !readMessage()) {
+                    connection.close();
+                    return -1;
+                }
+            } catch (IOException e) {
+                connection.close();
+                throw e;
+            }
+            int read = Math.min(len, message.length - position);
+            System.arraycopy(message, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public synchronized int available() {
+            return message.length - position;
+        }
+
+        /**
+         * Reads the next message of the IDE and returns false if the connection is closed or if the message is the
+         * exit notification.
+         */
+        private boolean readMessage() throws IOException {
+            ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            int matched = 0;
+            while (matched < HEADERS_END.length) {
+                int c = in.read();
+                if (c == -1) {
+                    return false;
+                }
+                headers.write(c);
+                matched = c == HEADERS_END[matched] ? matched + 1 : (c == HEADERS_END[0] ? 1 : 0);
+            }
+            int contentLength = -1;
+            for (String header : headers.toString(StandardCharsets.US_ASCII).split("\r\n")) {
+                if (header.regionMatches(true, 0, CONTENT_LENGTH, 0, CONTENT_LENGTH.length())) {
+                    contentLength = Integer.parseInt(header.substring(CONTENT_LENGTH.length()).trim());
+                }
+            }
+            if (contentLength < 0) {
+                throw new IOException("No " + CONTENT_LENGTH + " header in " + headers);
+            }
+            byte[] content = in.readNBytes(contentLength);
+            if (content.length < contentLength) {
+                return false;
+            }
+            if (content.length <= MAX_EXIT_LENGTH
+                    && EXIT.matcher(new String(content, StandardCharsets.UTF_8)).find()) {
+                LOG.println("Stopping " + connection.serverId);
+                return false;
+            }
+            message = new byte[headers.size() + content.length];
+            System.arraycopy(headers.toByteArray(), 0, message, 0, headers.size());
+            System.arraycopy(content, 0, message, headers.size(), content.length);
+            position = 0;
+            return true;
+        }
+    }
+}
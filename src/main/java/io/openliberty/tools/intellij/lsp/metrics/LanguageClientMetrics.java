@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp.metrics;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Latency and cancellation metrics of the requests sent by the language servers to the IDE, per request method.
+ *
+ * <p>
+ * The language clients run those requests in non-blocking read actions which are coalesced by key, so a request may
+ * wait in the queue, be restarted by write actions or be dropped in favor of a newer request. Each request is
+ * recorded in this service and emitted as a {@link LanguageClientRequestEvent} JFR event.
+ * </p>
+ */
+public final class LanguageClientMetrics {
+
+    /**
+     * Outcome of a language client request.
+     */
+    public enum Outcome {
+        COMPLETED,
+        FAILED,
+        /**
+         * Cancelled while or after its read action was running.
+         */
+        CANCELLED,
+        /**
+         * Cancelled before its read action started, generally because a newer request with the same coalescing key
+         * was submitted.
+         */
+        DROPPED
+    }
+
+    private final Map<String, RequestMetrics> metrics = new ConcurrentHashMap<>();
+
+    public static @NotNull LanguageClientMetrics getInstance() {
+        return ApplicationManager.getApplication().getService(LanguageClientMetrics.class);
+    }
+
+    /**
+     * Runs and records the given request.
+     *
+     * @param method    the LSP method of the request.
+     * @param code      the code computing the result of the request.
+     * @param submitter the function submitting the given code to a non-blocking read action.
+     * @return the future returned by the submitter.
+     */
+    public <R> CompletableFuture<R> track(@NotNull String method, @NotNull Function<ProgressIndicator, R> code,
+                                          @NotNull Function<Function<ProgressIndicator, R>, CompletableFuture<R>> submitter) {
+        TrackedRequest request = new TrackedRequest(getMetrics(method));
+        CompletableFuture<R> future = submitter.apply(request.wrap(code));
+        future.whenComplete((result, error) -> request.finish(error));
+        return future;
+    }
+
+    /**
+     * Returns the metrics of the requests recorded so far, sorted by method.
+     *
+     * @return the metrics of the requests recorded so far.
+     */
+    public List<RequestMetrics> getMetrics() {
+        List<RequestMetrics> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparing(RequestMetrics::getMethod));
+        return result;
+    }
+
+    public void reset() {
+        metrics.values().forEach(RequestMetrics::reset);
+    }
+
+    private RequestMetrics getMetrics(String method) {
+        return metrics.computeIfAbsent(method, RequestMetrics::new);
+    }
+
+    /**
+     * Metrics of the requests of one method.
+     */
+    public static final class RequestMetrics {
+
+        private final String method;
+
+        private final LongAdder submitted = new LongAdder();
+
+        private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+        private final LongAdder readActionRestarts = new LongAdder();
+
+        private final LatencyHistogram queueTime = new LatencyHistogram();
+
+        private final LatencyHistogram executionTime = new LatencyHistogram();
+
+        private final LatencyHistogram totalTime = new LatencyHistogram();
+
+        private RequestMetrics(String method) {
+            this.method = method;
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new LongAdder();
+            }
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public long getSubmitted() {
+            return submitted.sum();
+        }
+
+        public long getCount(Outcome outcome) {
+            return outcomes[outcome.ordinal()].sum();
+        }
+
+        public long getReadActionRestarts() {
+            return readActionRestarts.sum();
+        }
+
+        /**
+         * Returns the histogram of the times from the submission of the requests to the start of their first read
+         * action.
+         */
+        public LatencyHistogram getQueueTime() {
+            return queueTime;
+        }
+
+        /**
+         * Returns the histogram of the times of the read actions which computed the results of the requests.
+         */
+        public LatencyHistogram getExecutionTime() {
+            return executionTime;
+        }
+
+        /**
+         * Returns the histogram of the times from the submission to the completion of the requests.
+         */
+        public LatencyHistogram getTotalTime() {
+            return totalTime;
+        }
+
+        private void reset() {
+            submitted.reset();
+            for (LongAdder outcome : outcomes) {
+                outcome.reset();
+            }
+            readActionRestarts.reset();
+            queueTime.reset();
+            executionTime.reset();
+            totalTime.reset();
+        }
+    }
+
+    /**
+     * A request being recorded.
+     */
+    private static final class TrackedRequest {
+
+        private final RequestMetrics metrics;
+
+        private final LanguageClientRequestEvent event = new LanguageClientRequestEvent();
+
+        private final long submitNanos;
+
+        private final AtomicLong firstStartNanos = new AtomicLong();
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private volatile long lastAttemptNanos;
+
+        TrackedRequest(RequestMetrics metrics) {
+            this.metrics = metrics;
+            metrics.submitted.increment();
+            event.begin();
+            submitNanos = System.nanoTime();
+        }
+
+        <R> Function<ProgressIndicator, R> wrap(Function<ProgressIndicator, R> code) {
+            return monitor -> {
+                long start = System.nanoTime();
+                firstStartNanos.compareAndSet(0, start);
+                // A non-blocking read action is restarted when it is cancelled by a write action
+                attempts.incrementAndGet();
+                try {
+                    return code.apply(monitor);
+                } finally {
+                    lastAttemptNanos = System.nanoTime() - start;
+                }
+            };
+        }
+
+        void finish(Throwable error) {
+            long totalNanos = System.nanoTime() - submitNanos;
+            long startNanos = firstStartNanos.get();
+            Outcome outcome;
+            if (error == null) {
+                outcome = Outcome.COMPLETED;
+            } else if (isCancellation(error)) {
+                outcome = startNanos == 0 ? Outcome.DROPPED : Outcome.CANCELLED;
+            } else {
+                outcome = Outcome.FAILED;
+            }
+            long queueNanos = startNanos == 0 ? totalNanos : startNanos - submitNanos;
+            int restarts = Math.max(attempts.get() - 1, 0);
+
+            metrics.outcomes[outcome.ordinal()].increment();
+            metrics.readActionRestarts.add(restarts);
+            metrics.queueTime.record(queueNanos);
+            if (outcome == Outcome.COMPLETED) {
+                metrics.executionTime.record(lastAttemptNanos);
+                metrics.totalTime.record(totalNanos);
+            }
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = metrics.method;
+                event.outcome = outcome.name();
+                event.queueTime = queueNanos;
+                event.executionTime = lastAttemptNanos;
+                event.readActionRestarts = restarts;
+                event.commit();
+            }
+        }
+
+        private static boolean isCancellation(Throwable error) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof CancellationException || cause instanceof ProcessCanceledException;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp.metrics;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.table.JBTable;
+import io.openliberty.tools.intellij.lsp.metrics.LanguageClientMetrics.Outcome;
+import io.openliberty.tools.intellij.lsp.metrics.LanguageClientMetrics.RequestMetrics;
+import io.openliberty.tools.intellij.util.LocalizedResourceUtil;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Panel of the Liberty tool window showing the {@link LanguageClientMetrics}, refreshed periodically while it is
+ * displayed.
+ */
+public class LanguageClientMetricsPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LanguageClientMetricsPanel.class);
+
+    private static final int REFRESH_DELAY_MILLIS = 2000;
+
+    private static final String[] COLUMN_KEYS = {"method", "requests", "completed", "cancelled", "dropped", "failed",
+            "restarts", "queue.p50", "queue.p95", "execution.p50", "execution.p95", "execution.max"};
+
+    private final Project project;
+
+    private final DefaultTableModel model;
+
+    private final Timer refreshTimer;
+
+    public LanguageClientMetricsPanel(@NotNull Project project) {
+        super(true, true);
+        this.project = project;
+        String[] columns = new String[COLUMN_KEYS.length];
+        for (int i = 0; i < COLUMN_KEYS.length; i++) {
+            columns[i] = LocalizedResourceUtil.getMessage("language.client.metrics.column." + COLUMN_KEYS[i]);
+        }
+        model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JBTable table = new JBTable(model);
+        table.setAutoCreateRowSorter(true);
+        setContent(ScrollPaneFactory.createScrollPane(table));
+        setToolbar(createToolbar(table).getComponent());
+
+        refreshTimer = new Timer(REFRESH_DELAY_MILLIS, e -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+        refreshTimer.start();
+        refresh();
+    }
+
+    private ActionToolbar createToolbar(JComponent target) {
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("language.client.metrics.refresh"), null,
+                AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("language.client.metrics.reset"), null,
+                AllIcons.Actions.GC) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                LanguageClientMetrics.getInstance().reset();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(LocalizedResourceUtil.getMessage("language.client.metrics.export"), null,
+                AllIcons.ToolbarDecorator.Export) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                export();
+            }
+        });
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.TOOLBAR, group, true);
+        toolbar.setTargetComponent(target);
+        return toolbar;
+    }
+
+    private void refresh() {
+        List<RequestMetrics> metrics = LanguageClientMetrics.getInstance().getMetrics();
+        model.setRowCount(0);
+        for (RequestMetrics requestMetrics : metrics) {
+            model.addRow(new Object[]{
+                    requestMetrics.getMethod(),
+                    requestMetrics.getSubmitted(),
+                    requestMetrics.getCount(Outcome.COMPLETED),
+                    requestMetrics.getCount(Outcome.CANCELLED),
+                    requestMetrics.getCount(Outcome.DROPPED),
+                    requestMetrics.getCount(Outcome.FAILED),
+                    requestMetrics.getReadActionRestarts(),
+                    requestMetrics.getQueueTime().getPercentileMillis(50),
+                    requestMetrics.getQueueTime().getPercentileMillis(95),
+                    requestMetrics.getExecutionTime().getPercentileMillis(50),
+                    requestMetrics.getExecutionTime().getPercentileMillis(95),
+                    requestMetrics.getExecutionTime().getMaxMillis()
+            });
+        }
+    }
+
+    private void export() {
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(
+                LocalizedResourceUtil.getMessage("language.client.metrics.export"),
+                LocalizedResourceUtil.getMessage("language.client.metrics.export.description"), "csv");
+        VirtualFileWrapper file = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save("language-client-metrics.csv");
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.writeString(file.getFile().toPath(), toCsv(LanguageClientMetrics.getInstance().getMetrics()),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to export the language client metrics to {}", file.getFile(), e);
+            Messages.showErrorDialog(project, e.getLocalizedMessage(),
+                    LocalizedResourceUtil.getMessage("language.client.metrics.export"));
+        }
+    }
+
+    /**
+     * Returns the counters and the latency histograms of the given metrics as CSV, one line per method and histogram.
+     */
+    static String toCsv(List<RequestMetrics> metrics) {
+        StringBuilder csv = new StringBuilder("method,histogram,requests,completed,cancelled,dropped,failed,restarts,count,mean_ms,max_ms");
+        for (long bound : LatencyHistogram.BUCKET_BOUNDS_MILLIS) {
+            csv.append(",lt_").append(bound).append("ms");
+        }
+        csv.append(",overflow\n");
+        for (RequestMetrics requestMetrics : metrics) {
+            appendHistogram(csv, requestMetrics, "queue", requestMetrics.getQueueTime());
+            appendHistogram(csv, requestMetrics, "execution", requestMetrics.getExecutionTime());
+            appendHistogram(csv, requestMetrics, "total", requestMetrics.getTotalTime());
+        }
+        return csv.toString();
+    }
+
+    private static void appendHistogram(StringBuilder csv, RequestMetrics metrics, String name, LatencyHistogram histogram) {
+        csv.append(metrics.getMethod()).append(',')
+                .append(name).append(',')
+                .append(metrics.getSubmitted()).append(',')
+                .append(metrics.getCount(Outcome.COMPLETED)).append(',')
+                .append(metrics.getCount(Outcome.CANCELLED)).append(',')
+                .append(metrics.getCount(Outcome.DROPPED)).append(',')
+                .append(metrics.getCount(Outcome.FAILED)).append(',')
+                .append(metrics.getReadActionRestarts()).append(',')
+                .append(histogram.getCount()).append(',')
+                .append(histogram.getMeanMillis()).append(',')
+                .append(histogram.getMaxMillis());
+        for (long bucketCount : histogram.getBucketCounts()) {
+            csv.append(',').append(bucketCount);
+        }
+        csv.append('\n');
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+    }
+}
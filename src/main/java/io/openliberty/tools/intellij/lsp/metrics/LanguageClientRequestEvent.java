@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of a request sent by a language server to the IDE, from its submission to its completion.
+ */
+@Name("io.openliberty.tools.intellij.LanguageClientRequest")
+@Label("Language Client Request")
+@Category({"Liberty Tools", "Language Servers"})
+@Description("Request of a Liberty language server handled by the IDE")
+@StackTrace(false)
+class LanguageClientRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Queue Time")
+    @Description("Time from the submission of the request to the start of its first read action")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+
+    @Label("Execution Time")
+    @Description("Time of the read action which computed the result")
+    @Timespan(Timespan.NANOSECONDS)
+    long executionTime;
+
+    @Label("Read Action Restarts")
+    int readActionRestarts;
+}
@@ -13,10 +13,12 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.JSONUtils;
+import io.openliberty.tools.intellij.lsp.metrics.LanguageClientMetrics;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.PropertiesManagerForJakarta;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileProjectService;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
@@ -39,6 +41,7 @@ import org.eclipse.lsp4mp.commons.codeaction.CodeActionResolveData;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusLanguageClient.java
@@ -55,7 +58,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams jakartaJavaDiagnosticsParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/diagnostics", jakartaJavaDiagnosticsParams.getUris());
-    return runAsBackground("Computing Jakarta Java diagnostics",
+    return runAsBackground("jakarta/java/diagnostics", "Computing Jakarta Java diagnostics",
             monitor -> PropertiesManagerForJakarta.getInstance().diagnostics(jakartaJavaDiagnosticsParams, utils), coalesceBy);
   }
 
@@ -64,7 +67,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<CodeAction>> getJavaCodeAction(JakartaJavaCodeActionParams jakartaJavaCodeActionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/codeAction", jakartaJavaCodeActionParams.getUri());
-    return runAsBackground("Computing Jakarta code actions",
+    return runAsBackground("jakarta/java/codeAction", "Computing Jakarta code actions",
             monitor -> (List<CodeAction>) PropertiesManagerForJakarta.getInstance().getCodeAction(jakartaJavaCodeActionParams, utils), coalesceBy);
   }
 
@@ -73,7 +76,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/resolveCodeAction");
-    return runAsBackground("Computing Java resolve code actions", monitor -> {
+    return runAsBackground("jakarta/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
       final CodeActionResolveData data = JSONUtils.toModel(codeAction.getData(), CodeActionResolveData.class);
       codeAction.setData(data);
       return PropertiesManagerForJakarta.getInstance().resolveCodeAction(codeAction, utils);
@@ -85,7 +88,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaCompletionResult> getJavaCompletion(JakartaJavaCompletionParams jakartaJavaCompletionParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/completion", jakartaJavaCompletionParams.getUri(), jakartaJavaCompletionParams.getPosition());
-    return runAsBackground("Computing Java completion", monitor -> {
+    return runAsBackground("jakarta/java/completion", "Computing Java completion", monitor -> {
       final CompletionList completionList = PropertiesManagerForJakarta.getInstance().completion(jakartaJavaCompletionParams, utils);
       final JavaCursorContextResult cursorContext = PropertiesManagerForJakarta.getInstance().javaCursorContext(jakartaJavaCompletionParams, utils);
       return new JakartaJavaCompletionResult(completionList, cursorContext);
@@ -98,7 +101,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/projectLabels",
             jakartaJavaProjectLabelsParams.getUri(), jakartaJavaProjectLabelsParams.getTypes());
-    return runAsBackground("Computing Java projects labels",
+    return runAsBackground("jakarta/java/projectLabels", "Computing Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(adapt(jakartaJavaProjectLabelsParams), utils)), coalesceBy);
   }
 
@@ -107,7 +110,7 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/workspaceLabels");
-    return runAsBackground("Computing All Java projects labels",
+    return runAsBackground("jakarta/java/workspaceLabels", "Computing All Java projects labels",
             monitor -> adapt(ProjectLabelManager.getInstance().getProjectLabelInfo(utils)), coalesceBy);
   }
 
@@ -116,10 +119,18 @@ public final class JakartaLanguageClient extends IndexAwareLanguageClient implem
   public CompletableFuture<JakartaJavaFileInfo> getJavaFileInfo(JakartaJavaFileInfoParams jakartaJavaFileInfoParams) {
     final IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
     final var coalesceBy = new CoalesceByKey("jakarta/java/fileInfo", jakartaJavaFileInfoParams.getUri());
-    return runAsBackground("Computing Java file info",
+    return runAsBackground("jakarta/java/fileInfo", "Computing Java file info",
             monitor -> adapt(PropertiesManagerForJava.getInstance().fileInfo(adapt(jakartaJavaFileInfoParams), utils)), coalesceBy);
   }
 
+  /**
+   * Runs the given request in a non-blocking read action and records its latency and cancellation in the
+   * {@link LanguageClientMetrics}.
+   */
+  private <R> CompletableFuture<R> runAsBackground(String method, String progressTitle, Function<ProgressIndicator, R> code, Object coalesceBy) {
+    return LanguageClientMetrics.getInstance().track(method, code, trackedCode -> runAsBackground(progressTitle, trackedCode, coalesceBy));
+  }
+
   @Override
   public void libraryUpdated(Library library) {
     // not needed for Jakarta LS
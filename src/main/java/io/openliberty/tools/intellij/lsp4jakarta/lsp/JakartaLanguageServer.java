@@ -11,23 +11,25 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4jakarta.lsp;
 
-import com.intellij.execution.configurations.GeneralCommandLine;
 import com.intellij.ide.plugins.IdeaPluginDescriptor;
 import com.intellij.ide.plugins.PluginManagerCore;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.lsp.LanguageServerProcessProvider;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-public class JakartaLanguageServer extends OSProcessStreamConnectionProvider {
+public class JakartaLanguageServer extends LanguageServerProcessProvider {
     private static final String JAR_DIR = "lib/server/";
     private static final String LANGUAGESERVER_JAR = "org.eclipse.lsp4jakarta.ls-jar-with-dependencies.jar";
     private static final Logger LOGGER = LoggerFactory.getLogger(JakartaLanguageServer.class);
@@ -40,8 +42,11 @@ public class JakartaLanguageServer extends OSProcessStreamConnectionProvider {
             return;
         }
         if (lsp4JakartaServerPath.exists()) {
-            setCommandLine(new GeneralCommandLine(Arrays.asList(javaHome + File.separator + "bin" + File.separator + "java", "-jar",
-                    lsp4JakartaServerPath.getAbsolutePath(), "-DrunAsync=true")));
+            List<String> params = new ArrayList<>();
+            params.add(javaHome + File.separator + "bin" + File.separator + "java");
+            params.addAll(LanguageServerJvmSettings.getJvmArgs(Constants.JAKARTA_LANG_SERVER_ID, List.of(lsp4JakartaServerPath)));
+            params.addAll(Arrays.asList("-jar", lsp4JakartaServerPath.getAbsolutePath(), "-DrunAsync=true"));
+            setCommandLineParameters(params);
         } else {
             LOGGER.warn(String.format("Unable to start Eclipse LSP4Jakarta. Eclipse LSP4Jakarta server path: %s does not exist"), lsp4JakartaServerPath);
         }
@@ -15,11 +15,13 @@ import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageServerAPI;
 import com.redhat.devtools.lsp4ij.LanguageServerFactory;
 import com.redhat.devtools.lsp4ij.client.LanguageClientImpl;
 import com.redhat.devtools.lsp4ij.server.StreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.util.Constants;
 
 public class JakartaLanguageServerFactory implements LanguageServerFactory {
     @Override
     public StreamConnectionProvider createConnectionProvider(Project project) {
-        return new JakartaLanguageServer();
+        return LanguageServerJvmSettings.createConnectionProvider(Constants.JAKARTA_LANG_SERVER_ID, new JakartaLanguageServer());
     }
 
     @Override
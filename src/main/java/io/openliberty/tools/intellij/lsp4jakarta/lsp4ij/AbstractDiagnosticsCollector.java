@@ -16,16 +16,19 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PsiClassResolutionCache;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
@@ -34,6 +37,8 @@ import org.eclipse.lsp4j.Range;
  */
 public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollector, IJavaDiagnosticsParticipant {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDiagnosticsCollector.class);
+
     /**
      * Constructor
      */
@@ -101,7 +106,13 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         PsiFile typeRoot = context.getTypeRoot();
         if (typeRoot instanceof PsiJavaFile) {
             List<Diagnostic> diagnostics = new ArrayList<>();
-            collectDiagnostics((PsiJavaFile) typeRoot, diagnostics);
+            JavaFileSnapshot snapshot = JavaFileSnapshot.get(context, (PsiJavaFile) typeRoot);
+            long start = System.nanoTime();
+            collectDiagnostics(snapshot, diagnostics);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{} collected {} diagnostics in {} ms", getClass().getSimpleName(), diagnostics.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
             return diagnostics;
         }
         return Collections.emptyList();
@@ -114,6 +125,16 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      * @param diagnostics diagnostics for the given compilation unit to return
      */
     public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+        collectDiagnostics(new JavaFileSnapshot(unit), diagnostics);
+    }
+
+    /**
+     * Returns diagnostics for the compilation unit of the given snapshot.
+     *
+     * @param snapshot    snapshot of the compilation unit shared by the collectors
+     * @param diagnostics diagnostics for the given compilation unit to return
+     */
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
     }
 
     /**
@@ -131,6 +152,20 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
         return annotationFQName.equals(elementName);
     }
 
+    /**
+     * Returns true if the given annotation matches the given annotation name and
+     * false otherwise.
+     *
+     * @param snapshot         snapshot of the compilation unit.
+     * @param annotation       given annotation object.
+     * @param annotationFQName the fully qualified annotation name.
+     * @return true if the given annotation matches the given annotation name and
+     *         false otherwise.
+     */
+    protected static boolean isMatchedAnnotation(JavaFileSnapshot snapshot, PsiAnnotation annotation, String annotationFQName) {
+        return annotationFQName.equals(snapshot.getQualifiedName(annotation));
+    }
+
     /**
      * Returns true if the java element name matches the given fully qualified java
      * element name and false otherwise.
@@ -143,9 +178,7 @@ public abstract class AbstractDiagnosticsCollector implements DiagnosticsCollect
      */
     protected static boolean isMatchedJavaElement(PsiClass type, String javaElementName, String javaElementFQName) {
         if (javaElementFQName.equals(javaElementName)) {
-            JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-            Object o = facade.findClass(javaElementFQName, GlobalSearchScope.allScope(type.getProject()));
-            return (o != null);
+            return PsiClassResolutionCache.getInstance(type.getProject()).findClass(javaElementFQName) != null;
         }
         return false;
     }
@@ -13,9 +13,8 @@
 
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
 
-import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PsiClassResolutionCache;
 
 /**
  * Utility class for common IntelliJ PSI-based diagnostic logic.
@@ -31,9 +30,7 @@ public class DiagnosticsUtils {
      * @return
      */
     public static boolean inheritsFrom(PsiClass clazz, String fqSuperType) {
-        Project project = clazz.getProject();
-        PsiClass superClass = JavaPsiFacade.getInstance(project)
-                .findClass(fqSuperType, GlobalSearchScope.allScope(project));
+        PsiClass superClass = PsiClassResolutionCache.getInstance(clazz.getProject()).findClass(fqSuperType);
         return superClass != null &&
                 (clazz.isEquivalentTo(superClass) || clazz.isInheritor(superClass, true));
     }
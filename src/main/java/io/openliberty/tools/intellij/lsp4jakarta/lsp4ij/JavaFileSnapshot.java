@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij;
+
+import com.intellij.psi.*;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Structural snapshot of a Java file shared by the Jakarta diagnostics collectors of a diagnostics request.
+ *
+ * <p>
+ * The file is walked once: its types, their fields, methods and method parameters, and the annotations of all of
+ * them with their resolved fully qualified names. The collectors query the snapshot instead of walking and resolving
+ * the same PSI elements again. Elements which are not part of the snapshot, for instance the members of another
+ * class, are resolved on demand and kept for the rest of the request.
+ * </p>
+ */
+public class JavaFileSnapshot {
+
+    private static final String SNAPSHOT_KEY = JavaFileSnapshot.class.getName();
+
+    private static final PsiAnnotation[] NO_ANNOTATIONS = new PsiAnnotation[0];
+
+    private final PsiJavaFile unit;
+
+    private final PsiClass[] types;
+
+    private final Map<PsiClass, PsiField[]> fields = new HashMap<>();
+
+    private final Map<PsiClass, PsiMethod[]> methods = new HashMap<>();
+
+    private final Map<PsiModifierListOwner, PsiAnnotation[]> annotations = new HashMap<>();
+
+    private final Map<PsiModifierListOwner, String[]> annotationNames = new HashMap<>();
+
+    private final Map<PsiAnnotation, String> qualifiedNames = new HashMap<>();
+
+    /**
+     * Returns the snapshot of the Java file of the given diagnostics context, the snapshot is created by the first
+     * collector which requests it.
+     *
+     * @param context the java diagnostics context.
+     * @param unit    the Java file of the context.
+     * @return the snapshot of the Java file.
+     */
+    public static JavaFileSnapshot get(JavaDiagnosticsContext context, PsiJavaFile unit) {
+        JavaFileSnapshot snapshot = (JavaFileSnapshot) context.get(SNAPSHOT_KEY);
+        if (snapshot == null || snapshot.unit != unit) {
+            snapshot = new JavaFileSnapshot(unit);
+            context.put(SNAPSHOT_KEY, snapshot);
+        }
+        return snapshot;
+    }
+
+    public JavaFileSnapshot(PsiJavaFile unit) {
+        this.unit = unit;
+        this.types = unit.getClasses();
+        for (PsiClass type : types) {
+            collectAnnotations(type);
+            PsiField[] typeFields = getFields(type);
+            for (PsiField field : typeFields) {
+                collectAnnotations(field);
+            }
+            PsiMethod[] typeMethods = getMethods(type);
+            for (PsiMethod method : typeMethods) {
+                collectAnnotations(method);
+                for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                    collectAnnotations(parameter);
+                }
+            }
+        }
+    }
+
+    private void collectAnnotations(PsiModifierListOwner owner) {
+        PsiAnnotation[] ownerAnnotations = owner.getAnnotations();
+        String[] names = new String[ownerAnnotations.length];
+        for (int i = 0; i < ownerAnnotations.length; i++) {
+            names[i] = getQualifiedName(ownerAnnotations[i]);
+        }
+        annotations.put(owner, ownerAnnotations);
+        annotationNames.put(owner, names);
+    }
+
+    /**
+     * Returns the Java file.
+     *
+     * @return the Java file.
+     */
+    public PsiJavaFile getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the top level types of the Java file.
+     *
+     * @return the top level types of the Java file.
+     */
+    public PsiClass[] getTypes() {
+        return types;
+    }
+
+    /**
+     * Returns the fields of the given type.
+     *
+     * @param type the type.
+     * @return the fields of the given type.
+     */
+    public PsiField[] getFields(PsiClass type) {
+        return fields.computeIfAbsent(type, PsiClass::getFields);
+    }
+
+    /**
+     * Returns the methods, including the constructors, of the given type.
+     *
+     * @param type the type.
+     * @return the methods of the given type.
+     */
+    public PsiMethod[] getMethods(PsiClass type) {
+        return methods.computeIfAbsent(type, PsiClass::getMethods);
+    }
+
+    /**
+     * Returns the annotations of the given element.
+     *
+     * @param owner the annotated element.
+     * @return the annotations of the given element.
+     */
+    public PsiAnnotation[] getAnnotations(PsiModifierListOwner owner) {
+        if (owner == null) {
+            return NO_ANNOTATIONS;
+        }
+        if (!annotations.containsKey(owner)) {
+            collectAnnotations(owner);
+        }
+        return annotations.get(owner);
+    }
+
+    /**
+     * Returns the fully qualified names of the annotations of the given element, in the order of
+     * {@link #getAnnotations(PsiModifierListOwner)}. The name of an annotation which can't be resolved is null.
+     *
+     * @param owner the annotated element.
+     * @return the fully qualified names of the annotations of the given element.
+     */
+    public String[] getAnnotationNames(PsiModifierListOwner owner) {
+        if (owner == null) {
+            return new String[0];
+        }
+        if (!annotationNames.containsKey(owner)) {
+            collectAnnotations(owner);
+        }
+        return annotationNames.get(owner);
+    }
+
+    /**
+     * Returns the fully qualified name of the given annotation and null if it can't be resolved.
+     *
+     * @param annotation the annotation.
+     * @return the fully qualified name of the annotation.
+     */
+    public String getQualifiedName(PsiAnnotation annotation) {
+        if (qualifiedNames.containsKey(annotation)) {
+            return qualifiedNames.get(annotation);
+        }
+        String qualifiedName = annotation.getQualifiedName();
+        qualifiedNames.put(annotation, qualifiedName);
+        return qualifiedName;
+    }
+}
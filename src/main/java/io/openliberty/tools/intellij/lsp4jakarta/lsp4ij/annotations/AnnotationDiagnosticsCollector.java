@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.annotations;
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.DiagnosticsUtils;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -66,34 +67,35 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
             ArrayList<Tuple.Two<PsiAnnotation, PsiElement>> annotatables = new ArrayList<Tuple.Two<PsiAnnotation, PsiElement>>();
 
             PsiPackage psiPackage = JavaPsiFacade.getInstance(unit.getProject())
                     .findPackage(unit.getPackageName());
             if (psiPackage != null) {
-                processAnnotations(psiPackage, annotatables, VALID_ANNOTATIONS);
+                processAnnotations(snapshot, psiPackage, annotatables, VALID_ANNOTATIONS);
             }
 
-            PsiClass[] types = unit.getClasses();
+            PsiClass[] types = snapshot.getTypes();
             for (PsiClass type : types) {
                 // Type
-                processAnnotations(type, annotatables, VALID_TYPE_ANNOTATIONS);
+                processAnnotations(snapshot, type, annotatables, VALID_TYPE_ANNOTATIONS);
                 // Method
-                PsiMethod[] methods = type.getMethods();
+                PsiMethod[] methods = snapshot.getMethods(type);
                 for (PsiMethod method : methods) {
-                    processAnnotations(method, annotatables, VALID_METHOD_ANNOTATIONS);
+                    processAnnotations(snapshot, method, annotatables, VALID_METHOD_ANNOTATIONS);
                     // method parameters
                     PsiParameter[] parameters = method.getParameterList().getParameters();
                     for (PsiParameter parameter : parameters) {
-                        processAnnotations(parameter, annotatables, VALID_ANNOTATIONS);
+                        processAnnotations(snapshot, parameter, annotatables, VALID_ANNOTATIONS);
                     }
                 }
                 // Field
-                PsiField[] fields = type.getFields();
+                PsiField[] fields = snapshot.getFields(type);
                 for (PsiField field : fields) {
-                    processAnnotations(field, annotatables, VALID_TYPE_ANNOTATIONS);
+                    processAnnotations(snapshot, field, annotatables, VALID_TYPE_ANNOTATIONS);
                 }
             }
 
@@ -101,7 +103,7 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
                 PsiAnnotation annotation = annotatable.getFirst();
                 PsiElement element = annotatable.getSecond();
 
-                if (isMatchedAnnotation(annotation, AnnotationConstants.GENERATED_FQ_NAME)) {
+                if (isMatchedAnnotation(snapshot, annotation, AnnotationConstants.GENERATED_FQ_NAME)) {
                     for (PsiNameValuePair pair : annotation.getParameterList().getAttributes()) {
                         // If date element exists and is non-empty, it must follow ISO 8601 format.
                         if (pair.getAttributeName().equals("date")) {
@@ -117,7 +119,7 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
                             }
                         }
                     }
-                } else if (isMatchedAnnotation(annotation, AnnotationConstants.RESOURCE_FQ_NAME)) {
+                } else if (isMatchedAnnotation(snapshot, annotation, AnnotationConstants.RESOURCE_FQ_NAME)) {
                     if (element instanceof PsiClass) {
                         PsiClass type = (PsiClass) element;
                         Boolean nameEmpty = true;
@@ -148,7 +150,7 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
                         }
                     }
                 }
-                if (isMatchedAnnotation(annotation, AnnotationConstants.POST_CONSTRUCT_FQ_NAME)) {
+                if (isMatchedAnnotation(snapshot, annotation, AnnotationConstants.POST_CONSTRUCT_FQ_NAME)) {
                     if (element instanceof PsiMethod) {
                         PsiMethod method = (PsiMethod) element;
                         if (isCheckedExceptionPresent(method)) {
@@ -174,7 +176,7 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
                                     DiagnosticSeverity.Error));
                         }
                     }
-                } else if (isMatchedAnnotation(annotation, AnnotationConstants.PRE_DESTROY_FQ_NAME)) {
+                } else if (isMatchedAnnotation(snapshot, annotation, AnnotationConstants.PRE_DESTROY_FQ_NAME)) {
                     if (element instanceof PsiMethod) {
                         PsiMethod method = (PsiMethod) element;
                         if (isCheckedExceptionPresent(method)) {
@@ -205,13 +207,14 @@ public class AnnotationDiagnosticsCollector extends AbstractDiagnosticsCollector
         }
     }
 
-    private void processAnnotations(PsiJvmModifiersOwner psiModifierOwner,
+    private void processAnnotations(JavaFileSnapshot snapshot, PsiJvmModifiersOwner psiModifierOwner,
                                     ArrayList<Tuple.Two<PsiAnnotation, PsiElement>> annotatables,
                                     String[] validAnnotations) {
-        PsiAnnotation[] annotations = psiModifierOwner.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            if (isValidAnnotation(annotation.getQualifiedName(), validAnnotations))
-                annotatables.add(new Tuple.Two<>(annotation, psiModifierOwner));
+        PsiAnnotation[] annotations = snapshot.getAnnotations(psiModifierOwner);
+        String[] annotationNames = snapshot.getAnnotationNames(psiModifierOwner);
+        for (int i = 0; i < annotations.length; i++) {
+            if (isValidAnnotation(annotationNames[i], validAnnotations))
+                annotatables.add(new Tuple.Two<>(annotations[i], psiModifierOwner));
         }
     }
 
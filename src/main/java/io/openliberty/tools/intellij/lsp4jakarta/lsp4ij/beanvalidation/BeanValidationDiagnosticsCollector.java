@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.beanvalidation;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -37,30 +38,31 @@ public class BeanValidationDiagnosticsCollector extends AbstractDiagnosticsColle
         return DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
             PsiClass[] alltypes;
             PsiField[] allFields;
             PsiMethod[] allMethods;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
-                allFields = type.getFields();
+                allFields = snapshot.getFields(type);
                 for (PsiField field : allFields) {
-                    processAnnotations(field, type, diagnostics);
+                    processAnnotations(snapshot, field, type, diagnostics);
                 }
-                allMethods = type.getMethods();
+                allMethods = snapshot.getMethods(type);
                 for (PsiMethod method : allMethods) {
-                    processAnnotations(method, type, diagnostics);
+                    processAnnotations(snapshot, method, type, diagnostics);
                 }
             }
         }
     }
 
-    private void processAnnotations(PsiJvmModifiersOwner psiModifierOwner, PsiClass type, List<Diagnostic> diagnostics) {
-        PsiAnnotation[] annotations = psiModifierOwner.getAnnotations();
+    private void processAnnotations(JavaFileSnapshot snapshot, PsiJvmModifiersOwner psiModifierOwner, PsiClass type, List<Diagnostic> diagnostics) {
+        PsiAnnotation[] annotations = snapshot.getAnnotations(psiModifierOwner);
         for (PsiAnnotation annotation : annotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+            String matchedAnnotation = getMatchedJavaElementName(type, snapshot.getQualifiedName(annotation),
                     SET_OF_ANNOTATIONS.toArray(new String[0]));
             if (matchedAnnotation != null) {
                 validAnnotation(psiModifierOwner, annotation, matchedAnnotation, diagnostics);
@@ -14,10 +14,10 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.cdi;
 
 import java.util.*;
-import java.util.stream.Stream;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -40,25 +40,24 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit == null)
             return;
 
-        PsiClass[] types = unit.getClasses();
+        PsiClass[] types = snapshot.getTypes();
         String[] scopeFQNames = SCOPE_FQ_NAMES.toArray(String[]::new);
         for (PsiClass type : types) {
-            List<String> managedBeanAnnotations = getMatchedJavaElementNames(type, Stream.of(type.getAnnotations())
-                            .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
+            List<String> managedBeanAnnotations = getMatchedJavaElementNames(type, snapshot.getAnnotationNames(type),
                     scopeFQNames);
             boolean isManagedBean = !managedBeanAnnotations.isEmpty();
             boolean isDependent = managedBeanAnnotations.stream().anyMatch(DEPENDENT_FQ_NAME::equals);
             boolean hasMultipleScopes = managedBeanAnnotations.size() > 1;
             String[] injectAnnotations = { PRODUCES_FQ_NAME, INJECT_FQ_NAME };
-            PsiField fields[] = type.getFields();
+            PsiField fields[] = snapshot.getFields(type);
             boolean nonStaticPublicFieldPresent = false;
             for (PsiField field : fields) {
-                String[] annotationNames = Stream.of(field.getAnnotations())
-                        .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new);
+                String[] annotationNames = snapshot.getAnnotationNames(field);
                 List<String> fieldScopes = getMatchedJavaElementNames(type, annotationNames, scopeFQNames);
 
                 /**
@@ -122,7 +121,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
 
             }
 
-            PsiMethod[] methods = type.getMethods();
+            PsiMethod[] methods = snapshot.getMethods(type);
             List<PsiMethod> constructorMethods = new ArrayList<PsiMethod>();
             for (PsiMethod method : methods) {
 
@@ -139,8 +138,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
                  *
                  * Here we only look at the methods.
                  */
-                String[] annotationNames = Stream.of(method.getAnnotations())
-                        .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new);
+                String[] annotationNames = snapshot.getAnnotationNames(method);
                 List<String> methodScopes = getMatchedJavaElementNames(type, annotationNames, scopeFQNames);
                 List<String> methodInjects = getMatchedJavaElementNames(type, annotationNames, injectAnnotations);
                 boolean isProducerMethod = false, isInjectMethod = false;
@@ -194,11 +192,11 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
                         methodsNeedingDiagnostics.clear();
                         break;
                     }
-                    PsiAnnotation[] annotations = m.getAnnotations();
+                    String[] annotationNames = snapshot.getAnnotationNames(m);
                     boolean hasParameterizedInjectConstructor = false;
                     // look up '@Inject' annotation
-                    for (PsiAnnotation annotation : annotations) {
-                        if (isMatchedJavaElement(type, annotation.getQualifiedName(), INJECT_FQ_NAME)) {
+                    for (String annotationName : annotationNames) {
+                        if (isMatchedJavaElement(type, annotationName, INJECT_FQ_NAME)) {
                             hasParameterizedInjectConstructor = true;
                             break;
                         }
@@ -248,7 +246,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
              * https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_initializer
              *
              */
-            invalidParamsCheck(unit, diagnostics, type, INJECT_FQ_NAME,
+            invalidParamsCheck(snapshot, diagnostics, type, INJECT_FQ_NAME,
                     ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_INJECT_PARAM);
 
             if (isManagedBean) {
@@ -265,7 +263,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
                  * we need to check for bean defining annotations first to make sure the managed bean is discovered.
                  *
                  */
-                invalidParamsCheck(unit, diagnostics, type, PRODUCES_FQ_NAME,
+                invalidParamsCheck(snapshot, diagnostics, type, PRODUCES_FQ_NAME,
                         ManagedBeanConstants.DIAGNOSTIC_CODE_INVALID_PRODUCES_PARAM);
 
                 for (PsiMethod method : methods) {
@@ -274,15 +272,15 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
                     PsiParameter[] params = method.getParameterList().getParameters();
 
                     for (PsiParameter param : params) {
-                        PsiAnnotation[] annotations = param.getAnnotations();
-                        for (PsiAnnotation annotation : annotations) {
-                            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+                        String[] annotationNames = snapshot.getAnnotationNames(param);
+                        for (String annotationName : annotationNames) {
+                            String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
                                     INVALID_INJECT_PARAMS_FQ);
                             if (DISPOSES_FQ_NAME.equals(matchedAnnotation)) {
                                 numDisposes++;
                             } else if (OBSERVES_FQ_NAME.equals(matchedAnnotation)
                                     || OBSERVES_ASYNC_FQ_NAME.equals(matchedAnnotation)) {
-                                invalidAnnotations.add("@" + annotation.getQualifiedName());
+                                invalidAnnotations.add("@" + annotationName);
                             }
                         }
                     }
@@ -306,15 +304,16 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
         }
     }
 
-    private void invalidParamsCheck(PsiJavaFile unit, List<Diagnostic> diagnostics, PsiClass type, String target,
+    private void invalidParamsCheck(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics, PsiClass type, String target,
                                     String diagnosticCode) {
+        PsiJavaFile unit = snapshot.getUnit();
         Set<String> paramScopesSet;
-        for (PsiMethod method : type.getMethods()) {
+        for (PsiMethod method : snapshot.getMethods(type)) {
             boolean mutuallyExclusive = false;
             PsiAnnotation targetAnnotation = null;
 
-            for (PsiAnnotation annotation : method.getAnnotations()) {
-                if (isMatchedJavaElement(type, annotation.getQualifiedName(), target)) {
+            for (PsiAnnotation annotation : snapshot.getAnnotations(method)) {
+                if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation), target)) {
                     targetAnnotation = annotation;
                     break;
                 }
@@ -326,8 +325,7 @@ public class ManagedBeanDiagnosticsCollector extends AbstractDiagnosticsCollecto
             Set<String> invalidAnnotations = new TreeSet<>();
             PsiParameter[] params = method.getParameterList().getParameters();
             for (PsiParameter param : params) {
-                List<String> paramScopes = getMatchedJavaElementNames(type, Stream.of(param.getAnnotations())
-                                .map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
+                List<String> paramScopes = getMatchedJavaElementNames(type, snapshot.getAnnotationNames(param),
                         INVALID_INJECT_PARAMS_FQ);
                 for (String annotation : paramScopes) {
                     invalidAnnotations.add("@" + getSimpleName(annotation));
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.di;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -52,16 +53,17 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit == null)
             return;
 
         PsiClass[] alltypes;
-        alltypes = unit.getClasses();
+        alltypes = snapshot.getTypes();
         for (PsiClass type : alltypes) {
-            PsiField[] allFields = type.getFields();
+            PsiField[] allFields = snapshot.getFields(type);
             for (PsiField field : allFields) {
-                if (containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
+                if (containsAnnotation(type, snapshot.getAnnotationNames(field), INJECT_FQ_NAME)) {
                     if (field.hasModifierProperty(PsiModifier.FINAL)) {
                         String msg = Messages.getMessage("InjectNoFinalField");
                         diagnostics.add(createDiagnostic(field, unit, msg,
@@ -78,14 +80,14 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
             }
 
             List<PsiMethod> injectedConstructors = new ArrayList<PsiMethod>();
-            PsiMethod[] allMethods = type.getMethods();
+            PsiMethod[] allMethods = snapshot.getMethods(type);
             for (PsiMethod method : allMethods) {
                 boolean isFinal = method.hasModifierProperty(PsiModifier.FINAL);
                 boolean isAbstract = method.hasModifierProperty(PsiModifier.ABSTRACT);
                 boolean isStatic = method.hasModifierProperty(PsiModifier.STATIC);
                 boolean isGeneric = method.hasTypeParameters();
 
-                if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
+                if (containsAnnotation(type, snapshot.getAnnotationNames(method), INJECT_FQ_NAME)) {
                     if (isConstructorMethod(method))
                         injectedConstructors.add(method);
                     if (isFinal) {
@@ -159,9 +161,9 @@ public class DependencyInjectionDiagnosticsCollector extends AbstractDiagnostics
     }
 
 
-    private boolean containsAnnotation(PsiClass type, PsiAnnotation[] annotations, String annotationFQName) {
-        return Stream.of(annotations).anyMatch(annotation -> {
-                return isMatchedJavaElement(type, annotation.getQualifiedName(), annotationFQName);
+    private boolean containsAnnotation(PsiClass type, String[] annotationNames, String annotationFQName) {
+        return Stream.of(annotationNames).anyMatch(annotationName -> {
+                return isMatchedJavaElement(type, annotationName, annotationFQName);
         });
     }
 }
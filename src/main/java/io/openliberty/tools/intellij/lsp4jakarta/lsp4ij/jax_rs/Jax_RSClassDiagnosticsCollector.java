@@ -20,6 +20,7 @@ import java.util.Map;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -42,19 +43,20 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
 
         if (unit != null) {
             PsiClass[] alltypes;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
                 boolean isRootResource = false;
                 boolean isProviderResource = false;
-                PsiAnnotation[] annotationList = type.getAnnotations();
+                String[] annotationNames = snapshot.getAnnotationNames(type);
 
-                for (PsiAnnotation annotation : annotationList) {
-                    String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+                for (String annotationName : annotationNames) {
+                    String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
                             Jax_RSConstants.SET_OF_JAXRS_ANNOTATIONS1);
                     if (matchedAnnotation != null) {
                         if (Jax_RSConstants.PATH_ANNOTATION.equals(matchedAnnotation)) {
@@ -70,7 +72,7 @@ public class Jax_RSClassDiagnosticsCollector extends AbstractDiagnosticsCollecto
                     boolean hasPublicConstructor = false;
                     int maxParams = 0;
                     Map<PsiMethod, Integer> constructorParamsMap = new HashMap<PsiMethod, Integer>();
-                    PsiMethod[] methods = type.getMethods();
+                    PsiMethod[] methods = snapshot.getMethods(type);
                     for (PsiMethod method : methods) {
                         if (isConstructorMethod(method)) {
                             if (method.hasModifierProperty(PsiModifier.PUBLIC)) {
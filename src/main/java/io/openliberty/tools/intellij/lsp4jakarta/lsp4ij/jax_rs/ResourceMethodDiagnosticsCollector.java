@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.jax_rs;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.apache.commons.lang3.ArrayUtils;
 import org.eclipse.lsp4j.Diagnostic;
@@ -34,7 +35,8 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
 
         if (unit != null) {
             String[] methodDesignators = ArrayUtils.addAll(Jax_RSConstants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
@@ -42,17 +44,17 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
             PsiClass[] alltypes;
             PsiMethod[] methods;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
-                methods = type.getMethods();
+                methods = snapshot.getMethods(type);
                 for (PsiMethod method : methods) {
-                    PsiAnnotation[] methodAnnotations = method.getAnnotations();
+                    String[] methodAnnotations = snapshot.getAnnotationNames(method);
                     boolean isResourceMethod = false;
                     boolean isValid = true;
                     boolean isPublic = method.hasModifierProperty(PsiModifier.PUBLIC);
 
-                    for (PsiAnnotation annotation : methodAnnotations) {
-                        String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+                    for (String annotationName : methodAnnotations) {
+                        String matchedAnnotation = getMatchedJavaElementName(type, annotationName,
                                 methodDesignators);
                         if (matchedAnnotation != null) {
                             if (isValid && !isPublic)
@@ -73,10 +75,10 @@ public class ResourceMethodDiagnosticsCollector extends AbstractDiagnosticsColle
                         PsiParameter[] parameters = method.getParameterList().getParameters();
                         for (PsiParameter param : parameters) {
                             boolean isEntityParam = true;
-                            PsiAnnotation[] annotations = param.getAnnotations();
-                            for (PsiAnnotation annotation : annotations) {
+                            String[] annotationNames = snapshot.getAnnotationNames(param);
+                            for (String annotationName : annotationNames) {
                                 String matchedAnnotation = getMatchedJavaElementName(type,
-                                        annotation.getQualifiedName(),
+                                        annotationName,
                                         Jax_RSConstants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
                                 if (matchedAnnotation != null) {
                                     isEntityParam = false;
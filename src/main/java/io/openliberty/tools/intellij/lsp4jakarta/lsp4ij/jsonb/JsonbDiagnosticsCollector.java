@@ -20,6 +20,7 @@ import com.intellij.psi.*;
 import com.intellij.psi.impl.PsiClassImplUtil;
 import com.intellij.psi.util.InheritanceUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JDTUtils;
@@ -46,22 +47,23 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit == null)
             return;
-        PsiClass[] types = unit.getClasses();
+        PsiClass[] types = snapshot.getTypes();
         PsiMethod[] methods;
-        PsiAnnotation[] allAnnotations;
+        String[] allAnnotations;
 
         for (PsiClass type : types) {
-            methods = type.getMethods();
+            methods = snapshot.getMethods(type);
             List<PsiMethod> jonbMethods = new ArrayList<PsiMethod>();
             // methods
-            for (PsiMethod method : type.getMethods()) {
+            for (PsiMethod method : methods) {
                 if (isConstructorMethod(method) || method.hasModifierProperty(PsiModifier.STATIC)) {
-                    allAnnotations = method.getAnnotations();
-                    for (PsiAnnotation annotation : allAnnotations) {
-                        if (isMatchedJavaElement(type, annotation.getQualifiedName(), JsonbConstants.JSONB_CREATOR))
+                    allAnnotations = snapshot.getAnnotationNames(method);
+                    for (String annotationName : allAnnotations) {
+                        if (isMatchedJavaElement(type, annotationName, JsonbConstants.JSONB_CREATOR))
                             jonbMethods.add(method);
                     }
                 }
@@ -75,25 +77,26 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
             // fields
             //Changes to detect if Jsonb property names are not unique
             Set<String> uniquePropertyNames = new LinkedHashSet<String>();
-            for (PsiField field : type.getFields()) {
-                collectJsonbTransientFieldDiagnostics(unit, type, diagnostics, field);
-                collectJsonbTransientAccessorDiagnostics(unit, type, diagnostics, field);
-                collectJsonbUniquePropertyNames(uniquePropertyNames, field);
+            for (PsiField field : snapshot.getFields(type)) {
+                collectJsonbTransientFieldDiagnostics(snapshot, type, diagnostics, field);
+                collectJsonbTransientAccessorDiagnostics(snapshot, type, diagnostics, field);
+                collectJsonbUniquePropertyNames(snapshot, uniquePropertyNames, field);
             }
             // Collect diagnostics for duplicate property names with fields annotated @JsonbProperty
-            collectJsonbPropertyUniquenessDiagnostics(unit, diagnostics, uniquePropertyNames, type);
+            collectJsonbPropertyUniquenessDiagnostics(snapshot, diagnostics, uniquePropertyNames, type);
         }
     }
 
 
     /**
+     * @param snapshot
      * @param uniquePropertyNames
      * @param field
      * @description Method collects distinct property name values to be referenced for finding duplicates
      */
-    private void collectJsonbUniquePropertyNames(Set<String> uniquePropertyNames, PsiField field) {
-        for (PsiAnnotation annotation : field.getAnnotations()) {
-            if (isMatchedAnnotation(annotation, JsonbConstants.JSONB_PROPERTY)) { // Checks whether annotation is JsonbProperty
+    private void collectJsonbUniquePropertyNames(JavaFileSnapshot snapshot, Set<String> uniquePropertyNames, PsiField field) {
+        for (PsiAnnotation annotation : snapshot.getAnnotations(field)) {
+            if (isMatchedAnnotation(snapshot, annotation, JsonbConstants.JSONB_PROPERTY)) { // Checks whether annotation is JsonbProperty
                 String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(annotation);
                 if (propertyName != null) {
                     uniquePropertyNames.add(JsonPropertyUtils.decodeUnicodeName(propertyName));
@@ -104,23 +107,23 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
 
 
     /**
-     * @param unit
+     * @param snapshot
      * @param diagnostics
      * @param uniquePropertyNames
      * @param type
      * @description Method to collect JsonbProperty uniqueness diagnostics
      */
-    private void collectJsonbPropertyUniquenessDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics,
+    private void collectJsonbPropertyUniquenessDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics,
                                                            Set<String> uniquePropertyNames, PsiClass type) {
         Set<PsiClass> hierarchy = new LinkedHashSet<>(PsiClassImplUtil.getAllSuperClassesRecursively(type));
-        Map<String, List<PsiField>> jsonbMap = buildPropertyMap(uniquePropertyNames, hierarchy);
+        Map<String, List<PsiField>> jsonbMap = buildPropertyMap(snapshot, uniquePropertyNames, hierarchy);
 
         for (Map.Entry<String, List<PsiField>> entry : jsonbMap.entrySet()) { // Iterates through set of all key values pairs inside the map
             List<PsiField> fields = entry.getValue();
             if (fields.size() > JsonbConstants.MAX_PROPERTY_COUNT) {
                 for (PsiField f : fields) {
                     if (f.getContainingClass().equals(type)) {// Creates diagnostics in the subclass
-                        createJsonbPropertyUniquenessDiagnostics(unit, diagnostics, f, type);
+                        createJsonbPropertyUniquenessDiagnostics(snapshot, diagnostics, f, type);
                     }
                 }
             }
@@ -128,32 +131,34 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     /**
-     * @param unit
+     * @param snapshot
      * @param diagnostics
      * @param field
      * @param type
      * @description Method creates diagnostics with appropriate message and cursor context
      */
-    private void createJsonbPropertyUniquenessDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics,
+    private void createJsonbPropertyUniquenessDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics,
                                                           PsiField field, PsiClass type) {
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        PsiJavaFile unit = snapshot.getUnit();
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(snapshot, type, field);
         String diagnosticErrorMessage = Messages.getMessage("ErrorMessageJsonbPropertyUniquenessField");
         diagnostics.add(createDiagnostic(field, unit, diagnosticErrorMessage, JsonbConstants.DIAGNOSTIC_CODE_ANNOTATION_DUPLICATE_NAME,
                 (JsonArray) (new Gson().toJsonTree(jsonbAnnotationsForField)), DiagnosticSeverity.Error));
     }
 
     /**
+     * @param snapshot
      * @param uniquePropertyNames
      * @param hierarchy
      * @return Map<String, List < IField>> jsonbMap
      * @description This method collects the property name and fields using the same name if it's duplicated and builds it into a Map.
      */
-    private Map<String, List<PsiField>> buildPropertyMap(Set<String> uniquePropertyNames, Set<PsiClass> hierarchy) {
+    private Map<String, List<PsiField>> buildPropertyMap(JavaFileSnapshot snapshot, Set<String> uniquePropertyNames, Set<PsiClass> hierarchy) {
         Map<String, List<PsiField>> jsonbMap = new HashMap<>();
         hierarchy.stream()
-                .flatMap(finalType -> Arrays.stream(finalType.getFields())) // flatten PsiFields
-                .flatMap(field -> Arrays.stream(field.getAnnotations())
-                        .filter(annotation -> isMatchedAnnotation(annotation, JsonbConstants.JSONB_PROPERTY))
+                .flatMap(finalType -> Arrays.stream(snapshot.getFields(finalType))) // flatten PsiFields
+                .flatMap(field -> Arrays.stream(snapshot.getAnnotations(field))
+                        .filter(annotation -> isMatchedAnnotation(snapshot, annotation, JsonbConstants.JSONB_PROPERTY))
                         .map(annotation -> Map.entry(annotation, field))) // pair annotation with its field
                 .map(entry -> {
                     String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(entry.getKey());
@@ -167,15 +172,16 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return jsonbMap;
     }
 
-    private void collectJsonbTransientFieldDiagnostics(PsiJavaFile unit, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+    private void collectJsonbTransientFieldDiagnostics(JavaFileSnapshot snapshot, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
+        PsiJavaFile unit = snapshot.getUnit();
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(snapshot, type, field);
         if (jsonbAnnotationsForField.contains(JsonbConstants.JSONB_TRANSIENT_FQ_NAME)) {
             boolean hasAccessorConflict = false;
             // Diagnostics on the accessors of the field are created when they are
             // annotated with Jsonb annotations other than JsonbTransient.
             List<PsiMethod> accessors = JDTUtils.getFieldAccessors(unit, field);
             for (PsiMethod accessor : accessors) {
-                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(snapshot, type, accessor);
                 if (hasJsonbAnnotationOtherThanTransient(jsonbAnnotationsForAccessor)) {
                     createJsonbTransientDiagnostic(unit, diagnostics, accessor, jsonbAnnotationsForAccessor,
                             JsonbConstants.DIAGNOSTIC_CODE_ANNOTATION_TRANSIENT_FIELD);
@@ -191,12 +197,13 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         }
     }
 
-    private void collectJsonbTransientAccessorDiagnostics(PsiJavaFile unit, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
+    private void collectJsonbTransientAccessorDiagnostics(JavaFileSnapshot snapshot, PsiClass type, List<Diagnostic> diagnostics, PsiField field) {
+        PsiJavaFile unit = snapshot.getUnit();
         boolean createDiagnosticForField = false;
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(snapshot, type, field);
         List<PsiMethod> accessors = JDTUtils.getFieldAccessors(unit, field);
         for (PsiMethod accessor : accessors) {
-            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(snapshot, type, accessor);
             boolean hasFieldConflict = false;
             if (jsonbAnnotationsForAccessor.contains(JsonbConstants.JSONB_TRANSIENT_FQ_NAME)) {
                 // Diagnostic is created if the field of this accessor has a annotation other
@@ -233,11 +240,11 @@ public class JsonbDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return true;
     }
 
-    private List<String> getJsonbAnnotationNames(PsiClass type, PsiJvmModifiersOwner annotable) {
+    private List<String> getJsonbAnnotationNames(JavaFileSnapshot snapshot, PsiClass type, PsiJvmModifiersOwner annotable) {
         List<String> jsonbAnnotationNames = new ArrayList<String>();
-        PsiAnnotation annotations[] = annotable.getAnnotations();
-        for (PsiAnnotation annotation : annotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(), JsonbConstants.JSONB_ANNOTATIONS.toArray(String[]::new));
+        String annotationNames[] = snapshot.getAnnotationNames(annotable);
+        for (String annotationName : annotationNames) {
+            String matchedAnnotation = getMatchedJavaElementName(type, annotationName, JsonbConstants.JSONB_ANNOTATIONS.toArray(String[]::new));
             if (matchedAnnotation != null) {
                 jsonbAnnotationNames.add(matchedAnnotation);
             }
@@ -15,6 +15,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 
 import com.intellij.psi.*;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -38,19 +39,20 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
             PsiClass[] alltypes;
             PsiAnnotation[] allAnnotations;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
+                allAnnotations = snapshot.getAnnotations(type);
 
                 /* ============ Entity Annotation Diagnostics =========== */
                 PsiAnnotation EntityAnnotation = null;
                 for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(), PersistenceConstants.ENTITY)) {
+                    if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation), PersistenceConstants.ENTITY)) {
                         EntityAnnotation = annotation;
                     }
                 }
@@ -62,7 +64,7 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
                     boolean isEntityClassFinal = false;
 
                     // Get the Methods of the annotated Class
-                    for (PsiMethod method : type.getMethods()) {
+                    for (PsiMethod method : snapshot.getMethods(type)) {
                         if (isConstructorMethod(method)) {
                             // We have found a method that is a constructor
                             if (method.getParameterList().getParametersCount() > 0) {
@@ -85,7 +87,7 @@ public class PersistenceEntityDiagnosticsCollector extends AbstractDiagnosticsCo
                     }
 
                     // Go through the instance variables and make sure no instance vars are final
-                    for (PsiField field : type.getFields()) {
+                    for (PsiField field : snapshot.getFields(type)) {
                         // If a field is static, we do not care about it, we care about all other field
                         if (field.hasModifierProperty(PsiModifier.STATIC)) {
                             continue;
@@ -16,6 +16,7 @@ package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.persistence;
 import com.intellij.psi.*;
 import com.intellij.psi.util.InheritanceUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lsp4j.Diagnostic;
@@ -38,36 +39,38 @@ public class PersistenceMapKeyDiagnosticsCollector extends AbstractDiagnosticsCo
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
-            PsiClass[] alltypes = unit.getClasses();
+            PsiClass[] alltypes = snapshot.getTypes();
             PsiMethod[] methods;
             PsiField[] fields;
 
             for (PsiClass type : alltypes) {
-                methods = type.getMethods();
+                methods = snapshot.getMethods(type);
                 for (PsiMethod method : methods) {
-                    collectDiagnostics(unit, diagnostics, type, method);
+                    collectDiagnostics(snapshot, diagnostics, type, method);
                 }
                 // Go through each field to ensure they do not have both MapKey and MapKeyColumn
                 // Annotations
-                fields = type.getFields();
+                fields = snapshot.getFields(type);
                 for (PsiField field : fields) {
-                    collectDiagnostics(unit, diagnostics, type, field);
+                    collectDiagnostics(snapshot, diagnostics, type, field);
                 }
             }
         }
     }
 
-    private void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics,
+    private void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics,
                                     PsiClass type, PsiJvmModifiersOwner fieldOrProperty) {
+        PsiJavaFile unit = snapshot.getUnit();
         List<PsiAnnotation> mapKeyJoinCols = new ArrayList<PsiAnnotation>();
         boolean hasMapKeyAnnotation = false;
         boolean hasMapKeyClassAnnotation = false;
         boolean hasTypeDiagnostics = false;
-        PsiAnnotation[] allAnnotations = fieldOrProperty.getAnnotations();
+        PsiAnnotation[] allAnnotations = snapshot.getAnnotations(fieldOrProperty);
         for (PsiAnnotation annotation : allAnnotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(),
+            String matchedAnnotation = getMatchedJavaElementName(type, snapshot.getQualifiedName(annotation),
                     PersistenceConstants.SET_OF_PERSISTENCE_ANNOTATIONS);
             if (matchedAnnotation != null) {
                 if (PersistenceConstants.MAPKEY.equals(matchedAnnotation))
@@ -18,6 +18,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiNameValuePair;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -35,18 +36,19 @@ public class FilterDiagnosticsCollector extends AbstractDiagnosticsCollector {
         return ServletConstants.DIAGNOSTIC_SOURCE;
     }
 
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
             PsiClass[] alltypes;
             PsiAnnotation[] allAnnotations;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
+                allAnnotations = snapshot.getAnnotations(type);
                 PsiAnnotation webFilterAnnotation = null;
 
                 for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation),
                             ServletConstants.WEBFILTER_FQ_NAME)) {
                         webFilterAnnotation = annotation;
                     }
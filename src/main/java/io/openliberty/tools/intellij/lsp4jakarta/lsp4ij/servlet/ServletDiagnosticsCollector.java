@@ -14,9 +14,10 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.servlet;
 
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PsiClassResolutionCache;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
@@ -48,18 +49,19 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit != null) {
             PsiClass[] alltypes;
             PsiAnnotation[] allAnnotations;
 
-            alltypes = unit.getClasses();
+            alltypes = snapshot.getTypes();
             for (PsiClass type : alltypes) {
-                allAnnotations = type.getAnnotations();
+                allAnnotations = snapshot.getAnnotations(type);
 
                 PsiAnnotation webServletAnnotation = null;
                 for (PsiAnnotation annotation : allAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation),
                             ServletConstants.WEB_SERVLET_FQ_NAME)) {
                         webServletAnnotation = annotation;
                         break; // get the first one, the annotation is not repeatable
@@ -69,9 +71,8 @@ public class ServletDiagnosticsCollector extends AbstractDiagnosticsCollector {
                 if (webServletAnnotation != null) {
                     // check if the class extends HttpServlet
                     int r = 1;
-                    JavaPsiFacade facade = JavaPsiFacade.getInstance(type.getProject());
-                    PsiClass httpServletClass = facade.findClass("jakarta.servlet.http.HttpServlet",
-                            GlobalSearchScope.allScope(type.getProject()));
+                    PsiClass httpServletClass = PsiClassResolutionCache.getInstance(type.getProject())
+                            .findClass("jakarta.servlet.http.HttpServlet");
                     if (!type.isInheritor(httpServletClass, true)) {
                         r = -1;
                     }
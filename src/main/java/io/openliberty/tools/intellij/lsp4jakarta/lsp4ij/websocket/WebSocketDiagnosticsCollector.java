@@ -16,11 +16,11 @@
 package io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.websocket;
 
 import java.util.*;
-import java.util.stream.Stream;
 
 import com.intellij.psi.*;
 import com.intellij.psi.util.InheritanceUtil;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.AbstractDiagnosticsCollector;
+import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JavaFileSnapshot;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.JDTUtils;
 import io.openliberty.tools.intellij.lsp4jakarta.lsp4ij.Messages;
 import org.eclipse.lsp4j.Diagnostic;
@@ -37,49 +37,50 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
     }
 
     @Override
-    public void collectDiagnostics(PsiJavaFile unit, List<Diagnostic> diagnostics) {
+    protected void collectDiagnostics(JavaFileSnapshot snapshot, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
         if (unit == null) {
             return;
         }
 
         PsiClass[] alltypes = null;
         HashMap<String, Boolean> checkWSEnd = null;
-        alltypes = unit.getClasses();
+        alltypes = snapshot.getTypes();
         for (PsiClass type : alltypes) {
-            checkWSEnd = isWSEndpoint(type);
+            checkWSEnd = isWSEndpoint(snapshot, type);
             // checks if the class uses annotation to create a WebSocket endpoint
             if (checkWSEnd.get(WebSocketConstants.IS_ANNOTATION)) {
                 // WebSocket Invalid Parameters Diagnostic
-                invalidParamsCheck(type, unit, diagnostics);
+                invalidParamsCheck(snapshot, type, diagnostics);
 
                 /* @PathParam Value Mismatch Warning */
-                List<String> endpointPathVars = findAndProcessEndpointURI(type);
+                List<String> endpointPathVars = findAndProcessEndpointURI(snapshot, type);
                 /*
                  * WebSocket endpoint annotations must be attached to a class, and thus is
                  * guaranteed to be processed before any of the member method annotations
                  */
                 if (endpointPathVars != null && !endpointPathVars.isEmpty()) {
                     // PathParam URI Mismatch Warning Diagnostic
-                    uriMismatchWarningCheck(type, endpointPathVars, diagnostics, unit);
+                    uriMismatchWarningCheck(snapshot, type, endpointPathVars, diagnostics);
                 }
 
                 // OnMessage validation for WebSocket message formats
-                onMessageWSMessageFormats(type, diagnostics, unit);
+                onMessageWSMessageFormats(snapshot, type, diagnostics);
 
                 // ServerEndpoint annotation diagnostics
-                serverEndpointErrorCheck(type, diagnostics, unit);
+                serverEndpointErrorCheck(snapshot, type, diagnostics);
             }
         }
     }
 
-    private void invalidParamsCheck(PsiClass type, PsiJavaFile unit, List<Diagnostic> diagnostics) {
-        PsiMethod[] allMethods = type.getMethods();
+    private void invalidParamsCheck(JavaFileSnapshot snapshot, PsiClass type, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
+        PsiMethod[] allMethods = snapshot.getMethods(type);
         for (PsiMethod method : allMethods) {
-            PsiAnnotation[] allAnnotations = method.getAnnotations();
+            String[] allAnnotations = snapshot.getAnnotationNames(method);
             Set<String> specialParamTypes = null;
 
-            for (PsiAnnotation annotation : allAnnotations) {
-                String annotationName = annotation.getQualifiedName();
+            for (String annotationName : allAnnotations) {
                 String diagnosticCode = null;
 
                 if (isMatchedJavaElement(type, annotationName, WebSocketConstants.ON_OPEN)) {
@@ -107,9 +108,9 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
 
                         if (!isSpecialType) {
                             // check that if parameter is not a specialType, it has a @PathParam annotation
-                            PsiAnnotation[] param_annotations = param.getAnnotations();
+                            String[] param_annotations = snapshot.getAnnotationNames(param);
                             boolean hasPathParamAnnot = Arrays.asList(param_annotations).stream().anyMatch(annot -> {
-                                return isMatchedJavaElement(type, annot.getQualifiedName(),
+                                return isMatchedJavaElement(type, annot,
                                         WebSocketConstants.PATH_PARAM_ANNOTATION);
                             });
                             if (!hasPathParamAnnot) {
@@ -129,18 +130,19 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
      * variable parameters of the WebSocket EndPoint URI associated with the class
      * in which the method is contained
      *
-     * @param type representing the class list of diagnostics for this class
-     *             compilation unit with which the type is associated
+     * @param snapshot snapshot of the compilation unit with which the type is associated
+     * @param type     representing the class list of diagnostics for this class
      */
-    private void uriMismatchWarningCheck(PsiClass type, List<String> endpointPathVars, List<Diagnostic> diagnostics,
-                                         PsiJavaFile unit) {
-        PsiMethod[] typeMethods = type.getMethods();
+    private void uriMismatchWarningCheck(JavaFileSnapshot snapshot, PsiClass type, List<String> endpointPathVars,
+                                         List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
+        PsiMethod[] typeMethods = snapshot.getMethods(type);
         for (PsiMethod method : typeMethods) {
             PsiParameter[] methodParams = method.getParameterList().getParameters();
             for (PsiParameter param : methodParams) {
-                PsiAnnotation[] paramAnnotations = param.getAnnotations();
+                PsiAnnotation[] paramAnnotations = snapshot.getAnnotations(param);
                 for (PsiAnnotation annotation : paramAnnotations) {
-                    if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+                    if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation),
                             WebSocketConstants.PATHPARAM_ANNOTATION)) {
                         PsiNameValuePair[] valuePairs = annotation.getParameterList().getAttributes();
                         for (PsiNameValuePair pair : valuePairs) {
@@ -165,23 +167,24 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
      * Creates an error diagnostic if there exists more than one method annotated
      * with @OnMessage for a given message format.
      *
+     * @param snapshot
      * @param type
      * @param diagnostics
-     * @param unit
      */
 
-    private void onMessageWSMessageFormats(PsiClass type, List<Diagnostic> diagnostics, PsiJavaFile unit) {
-        PsiMethod[] typeMethods = type.getMethods();
+    private void onMessageWSMessageFormats(JavaFileSnapshot snapshot, PsiClass type, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
+        PsiMethod[] typeMethods = snapshot.getMethods(type);
         PsiAnnotation onMessageTextUsed = null;
         PsiAnnotation onMessageBinaryUsed = null;
         PsiAnnotation onMessagePongUsed = null;
         for (PsiMethod method : typeMethods) {
-            PsiAnnotation[] allAnnotations = method.getAnnotations();
+            PsiAnnotation[] allAnnotations = snapshot.getAnnotations(method);
             for (PsiAnnotation annotation : allAnnotations) {
-                if (isMatchedJavaElement(type, annotation.getQualifiedName(), WebSocketConstants.ON_MESSAGE)) {
+                if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation), WebSocketConstants.ON_MESSAGE)) {
                     PsiParameter[] allParams = method.getParameterList().getParameters();
                     for (PsiParameter param : allParams) {
-                        if (!isParamPath(type, param)) {
+                        if (!isParamPath(snapshot, type, param)) {
                             String typeName = param.getType().getCanonicalText();
 
                             if (typeName != null
@@ -241,10 +244,11 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
      * paths, missing a leading slash, or does not follow a valid level-1 template URI.
      */
 
-    private void serverEndpointErrorCheck(PsiClass type, List<Diagnostic> diagnostics, PsiJavaFile unit) {
-        PsiAnnotation[] annotations = type.getAnnotations();
+    private void serverEndpointErrorCheck(JavaFileSnapshot snapshot, PsiClass type, List<Diagnostic> diagnostics) {
+        PsiJavaFile unit = snapshot.getUnit();
+        PsiAnnotation[] annotations = snapshot.getAnnotations(type);
         for (PsiAnnotation annotation : annotations) {
-            if (isMatchedJavaElement(type, annotation.getQualifiedName(),
+            if (isMatchedJavaElement(type, snapshot.getQualifiedName(annotation),
                     WebSocketConstants.SERVER_ENDPOINT_ANNOTATION)) {
                 for (PsiNameValuePair annotationMemberValuePair : annotation.getParameterList().getAttributes()) {
                     String annoArgName = annotationMemberValuePair.getName();
@@ -279,16 +283,17 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
      * Finds a WebSocket EndPoint annotation and extracts all variable parameters in
      * the EndPoint URI
      *
-     * @param type representing the class
+     * @param snapshot snapshot of the compilation unit
+     * @param type     representing the class
      * @return List of variable parameters in the EndPoint URI if one exists, null
      *         otherwise
      */
-    private List<String> findAndProcessEndpointURI(PsiClass type) {
+    private List<String> findAndProcessEndpointURI(JavaFileSnapshot snapshot, PsiClass type) {
         String endpointURI = null;
-        PsiAnnotation[] typeAnnotations = type.getAnnotations();
+        PsiAnnotation[] typeAnnotations = snapshot.getAnnotations(type);
         String[] targetAnnotations = {WebSocketConstants.SERVER_ENDPOINT_ANNOTATION, WebSocketConstants.CLIENT_ENDPOINT_ANNOTATION};
         for (PsiAnnotation annotation : typeAnnotations) {
-            String matchedAnnotation = getMatchedJavaElementName(type, annotation.getQualifiedName(), targetAnnotations);
+            String matchedAnnotation = getMatchedJavaElementName(type, snapshot.getQualifiedName(annotation), targetAnnotations);
             if (matchedAnnotation != null) {
                 PsiNameValuePair[] valuePairs = annotation.getParameterList().getAttributes();
                 for (PsiNameValuePair pair : valuePairs) {
@@ -330,10 +335,11 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
      * https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
      * are met: class is annotated or class implements Endpoint class
      *
-     * @param type the type representing the class
+     * @param snapshot snapshot of the compilation unit
+     * @param type     the type representing the class
      * @return the conditions for a class to be a WebSocket endpoint
      */
-    private HashMap<String, Boolean> isWSEndpoint(PsiClass type) {
+    private HashMap<String, Boolean> isWSEndpoint(JavaFileSnapshot snapshot, PsiClass type) {
         HashMap<String, Boolean> wsEndpoint = new HashMap<>();
 
         // check trivial case
@@ -346,7 +352,7 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
         // Check that class follows
         // https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
         List<String> endpointAnnotations = getMatchedJavaElementNames(type,
-                Stream.of(type.getAnnotations()).map(annotation -> annotation.getQualifiedName()).toArray(String[]::new),
+                snapshot.getAnnotationNames(type),
                 WebSocketConstants.WS_ANNOTATION_CLASS);
 
         boolean useSuperclass = InheritanceUtil.isInheritor(type, WebSocketConstants.FQ_ENDPOINT_SUPERCLASS);
@@ -356,10 +362,10 @@ public class WebSocketDiagnosticsCollector extends AbstractDiagnosticsCollector
 
         return wsEndpoint;
     }
-    private boolean isParamPath(PsiClass type, PsiParameter param) {
-        PsiAnnotation[] allVariableAnnotations = param.getAnnotations();
-        for (PsiAnnotation variableAnnotation : allVariableAnnotations) {
-            if (isMatchedJavaElement(type, variableAnnotation.getQualifiedName(),
+    private boolean isParamPath(JavaFileSnapshot snapshot, PsiClass type, PsiParameter param) {
+        String[] allVariableAnnotations = snapshot.getAnnotationNames(param);
+        for (String variableAnnotation : allVariableAnnotations) {
+            if (isMatchedJavaElement(type, variableAnnotation,
                     WebSocketConstants.PATH_PARAM_ANNOTATION)) {
                 return true;
             }
@@ -13,15 +13,21 @@ package io.openliberty.tools.intellij.lsp4mp.lsp;
 import com.intellij.codeInspection.InspectionProfile;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.profile.ProfileChangeAdapter;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.JSONUtils;
+import io.openliberty.tools.intellij.lsp.metrics.LanguageClientMetrics;
 import io.openliberty.tools.intellij.lsp4mp.MicroProfileDeploymentSupport;
 import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.ProjectLabelManager;
@@ -50,6 +56,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -176,15 +183,23 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     private CompletableFuture<MicroProfileProjectInfo> internalGetProjectInfo(MicroProfileProjectInfoParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/projectInfo", params.getUri(), params.getScopes());
         String filePath = getFilePath(params.getUri());
-        return runAsBackground("Computing MicroProfile properties for '" + filePath + "'.", monitor ->
+        return runAsBackground("microprofile/projectInfo", "Computing MicroProfile properties for '" + filePath + "'.", monitor ->
                 PropertiesManager.getInstance().getMicroProfileProjectInfo(params, PsiUtilsLSImpl.getInstance(getProject()), monitor),
                 coalesceBy);
     }
 
+    /**
+     * Runs the given request in a non-blocking read action and records its latency and cancellation in the
+     * {@link LanguageClientMetrics}.
+     */
+    private <R> CompletableFuture<R> runAsBackground(String method, String progressTitle, Function<ProgressIndicator, R> code, Object coalesceBy) {
+        return LanguageClientMetrics.getInstance().track(method, code, trackedCode -> runAsBackground(progressTitle, trackedCode, coalesceBy));
+    }
+
     @Override
     public CompletableFuture<Hover> getJavaHover(MicroProfileJavaHoverParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/hover", javaParams.getUri(), javaParams.getPosition());
-        return runAsBackground("Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/hover", "Computing MicroProfile Java hover", monitor -> PropertiesManagerForJava.getInstance().hover(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
@@ -195,43 +210,43 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
         // "Too many non-blocking read actions submitted at once in". To avoid having this error, we create a coalesceBy key
         // managed by IJ ReadAction.nonBlocking() to cancel the previous request.
         var coalesceBy = new CoalesceByKey("microprofile/java/diagnostics", javaParams.getUris());
-        return runAsBackground("Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/diagnostics", "Computing MicroProfile Java diagnostics", monitor -> PropertiesManagerForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<Location> getPropertyDefinition(MicroProfilePropertyDefinitionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/propertyDefinition", params.getUri(), params.getSourceType(), params.getSourceField(), params.getSourceMethod());
-        return runAsBackground("Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/propertyDefinition", "Computing property definition", monitor -> PropertiesManager.getInstance().findPropertyLocation(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(MicroProfileJavaProjectLabelsParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/projectLabels", javaParams.getUri(), javaParams.getTypes());
-        return runAsBackground("Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/projectLabels", "Computing Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
         var coalesceBy = new CoalesceByKey("microprofile/java/workspaceLabels");
-        return runAsBackground("Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsBackground("microprofile/java/workspaceLabels", "Computing All Java projects labels", monitor -> ProjectLabelManager.getInstance().getProjectLabelInfo(PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
     }
 
     @Override
     public CompletableFuture<JavaFileInfo> getJavaFileInfo(MicroProfileJavaFileInfoParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/fileInfo", javaParams.getUri());
-        return runAsBackground("Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/fileInfo", "Computing Java file info", monitor -> PropertiesManagerForJava.getInstance().fileInfo(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<MicroProfileDefinition>> getJavaDefinition(MicroProfileJavaDefinitionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/definition", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/definition", "Computing Java definitions", monitor -> PropertiesManagerForJava.getInstance().definition(javaParams, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<MicroProfileJavaCompletionResult> getJavaCompletion(MicroProfileJavaCompletionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/completion", javaParams.getUri(),javaParams.getPosition());
-        return runAsBackground("Computing Java completion", monitor -> {
+        return runAsBackground("microprofile/java/completion", "Computing Java completion", monitor -> {
             IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
             CompletionList completionList = PropertiesManagerForJava.getInstance().completion(javaParams, utils);
             JavaCursorContextResult cursorContext = PropertiesManagerForJava.getInstance().javaCursorContext(javaParams, utils);
@@ -242,19 +257,19 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<List<? extends CodeLens>> getJavaCodelens(MicroProfileJavaCodeLensParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeLens", javaParams.getUri());
-        return runAsBackground("Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
+        return runAsBackground("microprofile/java/codeLens", "Computing Java codelens", monitor -> PropertiesManagerForJava.getInstance().codeLens(javaParams, PsiUtilsLSImpl.getInstance(getProject()), monitor), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<CodeAction>> getJavaCodeAction(MicroProfileJavaCodeActionParams javaParams) {
         var coalesceBy = new CoalesceByKey("microprofile/java/codeAction", javaParams.getUri());
-        return runAsBackground("Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
+        return runAsBackground("microprofile/java/codeAction", "Computing Java code actions", monitor -> (List<CodeAction>) PropertiesManagerForJava.getInstance().codeAction(javaParams, PsiUtilsLSImpl.getInstance(getProject())),coalesceBy);
     }
 
     @Override
     public CompletableFuture<CodeAction> resolveCodeAction(CodeAction unresolved) {
         var coalesceBy = new CoalesceByKey("microprofile/java/resolveCodeAction");
-        return runAsBackground("Computing Java resolve code actions", monitor -> {
+        return runAsBackground("microprofile/java/resolveCodeAction", "Computing Java resolve code actions", monitor -> {
             CodeActionResolveData data = JSONUtils.toModel(unresolved.getData(), CodeActionResolveData.class);
             unresolved.setData(data);
             return (CodeAction) PropertiesManagerForJava.getInstance().resolveCodeAction(unresolved, PsiUtilsLSImpl.getInstance(getProject()));
@@ -264,13 +279,32 @@ public class MicroProfileLanguageClient extends IndexAwareLanguageClient impleme
     @Override
     public CompletableFuture<JavaCursorContextResult> getJavaCursorContext(MicroProfileJavaCompletionParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/java/javaCursorContext", params.getUri(), params.getPosition());
-        return runAsBackground("Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
+        return runAsBackground("microprofile/java/javaCursorContext", "Computing Java Cursor context", monitor -> PropertiesManagerForJava.getInstance().javaCursorContext(params, PsiUtilsLSImpl.getInstance(getProject())), coalesceBy);
     }
 
     @Override
     public CompletableFuture<List<SymbolInformation>> getJavaWorkspaceSymbols(String projectUri) {
-        //Workspace symbols not supported yet https://github.com/redhat-developer/intellij-quarkus/issues/808
-        return CompletableFuture.completedFuture(null);
+        Function<ProgressIndicator, List<SymbolInformation>> code = monitor -> PropertiesManagerForJava.getInstance().workspaceSymbols(projectUri, PsiUtilsLSImpl.getInstance(getProject()), monitor);
+        if (DumbService.isDumb(getProject())) {
+            // runAsBackground waits until the indexing ends, the dumb aware participants collect their symbols
+            // from the index during the indexing instead
+            return LanguageClientMetrics.getInstance().track("microprofile/java/workspaceSymbols", code, this::runInDumbMode);
+        }
+        var coalesceBy = new CoalesceByKey("microprofile/java/workspaceSymbols", projectUri);
+        return runAsBackground("microprofile/java/workspaceSymbols", "Computing MicroProfile Java workspace symbols", code, coalesceBy);
+    }
+
+    /**
+     * Runs the given request in a non-blocking read action without waiting for the end of the indexing.
+     */
+    private <R> CompletableFuture<R> runInDumbMode(Function<ProgressIndicator, R> code) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        ReadAction.nonBlocking(() -> code.apply(Objects.requireNonNullElseGet(ProgressManager.getGlobalProgressIndicator(), EmptyProgressIndicator::new)))
+                .expireWith(LibertyToolPluginDisposable.getInstance(getProject()))
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(future::complete)
+                .onError(future::completeExceptionally);
+        return future;
     }
 
     @Override
@@ -10,27 +10,29 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp.lsp;
 
-import com.intellij.execution.configurations.GeneralCommandLine;
 import com.intellij.ide.plugins.IdeaPluginDescriptor;
 import com.intellij.ide.plugins.PluginManagerCore;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.redhat.devtools.lsp4ij.server.OSProcessStreamConnectionProvider;
+import io.openliberty.tools.intellij.lsp.LanguageServerJvmSettings;
+import io.openliberty.tools.intellij.lsp.LanguageServerProcessProvider;
 import io.openliberty.tools.intellij.util.Constants;
 import io.openliberty.tools.intellij.util.JavaVersionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Adapted from https://github.com/redhat-developer/intellij-quarkus/blob/2585eb422beeb69631076d2c39196d6eca2f5f2e/src/main/java/com/redhat/devtools/intellij/quarkus/lsp/QuarkusServer.java
  * to start LSP4MP, Language Server for MicroProfile
  */
-public class MicroProfileServer extends OSProcessStreamConnectionProvider {
+public class MicroProfileServer extends LanguageServerProcessProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MicroProfileServer.class);
 
@@ -42,8 +44,11 @@ public class MicroProfileServer extends OSProcessStreamConnectionProvider {
             return;
         }
         if (lsp4mpServerPath.exists()) {
-            setCommandLine(new GeneralCommandLine(Arrays.asList(javaHome + File.separator + "bin" + File.separator + "java", "-jar",
-                    lsp4mpServerPath.getAbsolutePath(), "-DrunAsync=true")));
+            List<String> params = new ArrayList<>();
+            params.add(javaHome + File.separator + "bin" + File.separator + "java");
+            params.addAll(LanguageServerJvmSettings.getJvmArgs(Constants.MICROPROFILE_SERVER_ID, List.of(lsp4mpServerPath)));
+            params.addAll(Arrays.asList("-jar", lsp4mpServerPath.getAbsolutePath(), "-DrunAsync=true"));
+            setCommandLineParameters(params);
         } else {
             LOGGER.warn(String.format("Unable to start Eclipse LSP4MP. Eclipse LSP4MP server path: %s does not exist"), lsp4mpServerPath);
         }
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Debounce policy whose delay adapts to the rate of the changes.
+ *
+ * <p>
+ * An isolated change is flushed after the minimum delay. The delay doubles for each other change recorded in the
+ * rate window, up to the maximum delay, so the bursts of changes of a build or a VCS update are flushed together.
+ * The changes are never postponed more than the maximum wait after the first pending change.
+ * </p>
+ *
+ * <p>
+ * The debouncer doesn't schedule anything itself: {@link #onChange(boolean)} tells when a flush must be scheduled,
+ * and {@link #pollDelay()}, called when the flush runs, tells whether the flush must be postponed. So a change only
+ * records its time, instead of cancelling and rescheduling the pending flush.
+ * </p>
+ */
+final class AdaptiveDebouncer {
+
+    /**
+     * The number of recorded changes after which the delay is the maximum delay whatever the delays are.
+     */
+    private static final int MAX_RECORDED_CHANGES = 32;
+
+    private final long minDelay;
+    private final long maxDelay;
+    private final long maxWait;
+    private final long rateWindow;
+    private final LongSupplier clock;
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    /**
+     * The times of the new changes in the rate window.
+     */
+    private final ArrayDeque<Long> changeTimes = new ArrayDeque<>();
+
+    private volatile long delay;
+    private volatile long firstChangeTime;
+    private volatile long lastChangeTime;
+
+    /**
+     * @param minDelay   the delay of an isolated change, in milliseconds.
+     * @param maxDelay   the maximum delay after the last change, in milliseconds.
+     * @param maxWait    the maximum delay after the first pending change, in milliseconds.
+     * @param rateWindow the window where the changes are counted to compute the delay, in milliseconds.
+     * @param clock      the clock, in milliseconds.
+     */
+    AdaptiveDebouncer(long minDelay, long maxDelay, long maxWait, long rateWindow, LongSupplier clock) {
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.maxWait = maxWait;
+        this.rateWindow = rateWindow;
+        this.clock = clock;
+        this.delay = minDelay;
+    }
+
+    /**
+     * Records a change.
+     *
+     * @param newChange true if the change is new, and false if it updates a pending change (ex : the same file is
+     *                  changed again). Only the new changes increase the delay.
+     * @return true if no flush is pending and a flush must be scheduled after {@link #getDelay()}, and false
+     * otherwise.
+     */
+    boolean onChange(boolean newChange) {
+        long now = clock.getAsLong();
+        if (newChange) {
+            updateDelay(now);
+        }
+        lastChangeTime = now;
+        if (pending.compareAndSet(false, true)) {
+            firstChangeTime = now;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the current delay after the last change, in milliseconds.
+     *
+     * @return the current delay after the last change, in milliseconds.
+     */
+    long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Returns the remaining delay before the pending changes must be flushed, or 0 if they must be flushed now. In
+     * this case the next change schedules a new flush.
+     *
+     * @return the remaining delay before the pending changes must be flushed, or 0 if they must be flushed now.
+     */
+    long pollDelay() {
+        long now = clock.getAsLong();
+        long deadline = Math.min(lastChangeTime + delay, firstChangeTime + maxWait);
+        if (deadline > now) {
+            return deadline - now;
+        }
+        pending.set(false);
+        return 0;
+    }
+
+    private synchronized void updateDelay(long now) {
+        changeTimes.addLast(now);
+        while (changeTimes.size() > MAX_RECORDED_CHANGES || changeTimes.peekFirst() <= now - rateWindow) {
+            changeTimes.removeFirst();
+        }
+        int shift = Math.min(changeTimes.size() - 1, Long.numberOfLeadingZeros(minDelay) - 1);
+        delay = Math.min(maxDelay, minDelay << shift);
+    }
+}
@@ -111,7 +111,9 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         if (psiFile == null) {
             return;
         }
-        tryToAddSourceFile(psiFile.getVirtualFile(), true);
+        // The module of the file is resolved when the changes are notified, not on each Psi event
+        var notifier = manager.getResourceChangedNotifier();
+        notifier.addChangedFile(psiFile);
     }
 
     // Track file system changes
@@ -123,7 +125,7 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
             if (expectedEvent) {
                 // A file has been deleted
                 // We need to track delete event in 'before' method because we need the project of the file (in after we loose this information).
-                tryToAddSourceFile(event.getFile(), false);
+                tryToAddSourceFile(event.getFile());
             }
         }
     }
@@ -134,7 +136,7 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
             boolean expectedEvent = (event instanceof VFileCreateEvent || event instanceof VFileContentChangeEvent);
             if (expectedEvent) {
                 // A file has been created, updated
-                tryToAddSourceFile(event.getFile(), false);
+                tryToAddSourceFile(event.getFile());
             }
         }
     }
@@ -147,11 +149,7 @@ class ClasspathResourceChangedListener extends PsiTreeChangeAdapter implements B
         return PsiMicroProfileProjectManager.isConfigSource(file);
     }
 
-    private void tryToAddSourceFile(VirtualFile file, boolean checkExistingFile) {
-        if (checkExistingFile && (file == null || !file.exists())) {
-            // The file doesn't exist
-            return;
-        }
+    private void tryToAddSourceFile(VirtualFile file) {
         var project = manager.getProject();
         if (!isJavaFile(file) && !isConfigSource(file)) {
             return;
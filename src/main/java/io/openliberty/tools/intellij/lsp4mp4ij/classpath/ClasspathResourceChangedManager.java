@@ -19,6 +19,7 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar;
+import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
@@ -71,6 +72,8 @@ public class ClasspathResourceChangedManager implements Disposable {
 		this.project = project;
 		// Send source files changed in debounce mode
 		this.resourceChangedNotifier = new ClasspathResourceChangedNotifier(project);
+		// Cancel the pending notifications when the project is closed
+		Disposer.register(LibertyToolPluginDisposable.getInstance(project), resourceChangedNotifier);
 		listener = new ClasspathResourceChangedListener(this);
 		projectConnection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
 		// Track end of Java libraries update
@@ -86,7 +89,7 @@ public class ClasspathResourceChangedManager implements Disposable {
 
 	@Override
 	public void dispose() {
-		this.resourceChangedNotifier.dispose();
+		Disposer.dispose(this.resourceChangedNotifier);
 		this.projectConnection.disconnect();
 		this.appConnection.disconnect();
 		LibraryTablesRegistrar.getInstance().getLibraryTable(project).removeListener(listener);
@@ -16,125 +16,240 @@ package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.Alarm;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
- * Source file change notifier with a debounce mode.
+ * Source file change notifier with an adaptive debounce mode.
+ *
+ * <p>
+ * The source files and the libraries are flushed on independent cadences by an {@link AdaptiveDebouncer}: an
+ * isolated save is notified quickly, and the bursts of changes of a build or a VCS update are notified together. The
+ * flushes run on a pooled thread of an {@link Alarm} which is disposed with the notifier.
+ * </p>
  */
 public class ClasspathResourceChangedNotifier implements Disposable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathResourceChangedNotifier.class);
 
-    private static final long DEBOUNCE_DELAY = 1000;
+    private static final long SOURCES_MIN_DELAY = 200;
+    private static final long SOURCES_MAX_DELAY = 2000;
+    private static final long SOURCES_MAX_WAIT = 5000;
+
+    private static final long LIBRARIES_MIN_DELAY = 1000;
+    private static final long LIBRARIES_MAX_DELAY = 5000;
+    private static final long LIBRARIES_MAX_WAIT = 15000;
+
+    private static final long RATE_WINDOW = 10000;
 
     private final Project project;
 
-    private Timer debounceTimer;
-    private TimerTask debounceTask;
+    /**
+     * True if the changes are flushed by the debounce alarm, and false if they are notified synchronously (in the
+     * unit tests).
+     */
+    private final boolean debounced;
+    private final Alarm debounceAlarm;
+    private final AdaptiveDebouncer sourcesDebouncer;
+    private final AdaptiveDebouncer librariesDebouncer;
 
     private final Set<Pair<VirtualFile, Module>> sourceFiles;
-    private boolean librariesChanged;
-    private boolean disposed;
+    private final PsiChangedFilesCollector psiChangedFiles;
+    private volatile boolean librariesChanged;
+    private volatile boolean disposed;
 
     public ClasspathResourceChangedNotifier(Project project) {
+        this(project, !ApplicationManager.getApplication().isUnitTestMode(),
+                new AdaptiveDebouncer(SOURCES_MIN_DELAY, SOURCES_MAX_DELAY, SOURCES_MAX_WAIT, RATE_WINDOW,
+                        System::currentTimeMillis),
+                new AdaptiveDebouncer(LIBRARIES_MIN_DELAY, LIBRARIES_MAX_DELAY, LIBRARIES_MAX_WAIT, RATE_WINDOW,
+                        System::currentTimeMillis));
+    }
+
+    /**
+     * @param project            the project.
+     * @param debounced          true if the changes are flushed by the debounce alarm, and false if they are notified
+     *                           synchronously.
+     * @param sourcesDebouncer   the debounce policy of the source files.
+     * @param librariesDebouncer the debounce policy of the libraries.
+     */
+    ClasspathResourceChangedNotifier(Project project, boolean debounced, AdaptiveDebouncer sourcesDebouncer,
+                                     AdaptiveDebouncer librariesDebouncer) {
         this.project = project;
+        this.debounced = debounced;
         sourceFiles = new HashSet<>();
+        psiChangedFiles = new PsiChangedFilesCollector();
+        debounceAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+        this.sourcesDebouncer = sourcesDebouncer;
+        this.librariesDebouncer = librariesDebouncer;
     }
 
-    public synchronized void addLibrary(Library library) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
+    public void addLibrary(Library library) {
+        boolean newChange = !librariesChanged;
         librariesChanged = true;
-        asyncNotifyChanges();
+        if (isDisposed()) {
+            return;
+        }
+        if (!debounced) {
+            notifyLibraries();
+        } else if (librariesDebouncer.onChange(newChange)) {
+            scheduleFlush(this::flushLibraries, librariesDebouncer.getDelay());
+        }
     }
 
-    public synchronized void addSourceFile(Pair<VirtualFile, Module> pair) {
-        if (debounceTask != null) {
-            debounceTask.cancel();
-        }
+    public void addSourceFile(Pair<VirtualFile, Module> pair) {
+        boolean newChange;
         synchronized (sourceFiles) {
-            sourceFiles.add(pair);
+            newChange = sourceFiles.add(pair);
         }
+        sourceFilesChanged(newChange);
+    }
 
-        asyncNotifyChanges();
+    /**
+     * Adds the file of the given Psi file which has been changed in the editor. This method is called for each Psi
+     * event, so the kind and the module of the file are resolved when the changes are notified.
+     *
+     * @param psiFile the changed Psi file.
+     */
+    public void addChangedFile(@NotNull PsiFile psiFile) {
+        sourceFilesChanged(psiChangedFiles.add(psiFile));
     }
 
-    private void asyncNotifyChanges() {
+    private void sourceFilesChanged(boolean newChange) {
         if (isDisposed()) {
             return;
         }
-        if (ApplicationManager.getApplication().isUnitTestMode()) {
-            notifyChanges();
-        } else {
-            debounceTask = new TimerTask() {
-                @Override
-                public void run() {
-                    try {
-                        notifyChanges();
-                    } catch (Throwable t) {
-                        //Need to catch time task exceptions, or it will cancel the timer
-                        LOGGER.error("Failed to notify classpath resource change", t);
-                    }
-                }
-            };
+        if (!debounced) {
+            notifySourceFiles();
+        } else if (sourcesDebouncer.onChange(newChange)) {
+            scheduleFlush(this::flushSourceFiles, sourcesDebouncer.getDelay());
+        }
+    }
 
-            if (debounceTimer == null) {
-                debounceTimer = new Timer();
-            }
+    private void scheduleFlush(Runnable flush, long delay) {
+        // The alarm may be disposed concurrently when the project is closed
+        if (!debounceAlarm.isDisposed()) {
+            debounceAlarm.addRequest(flush, delay);
+        }
+    }
+
+    private void flushSourceFiles() {
+        // The pending flush is postponed when it runs, instead of being replaced on each change
+        long delay = sourcesDebouncer.pollDelay();
+        if (delay > 0) {
+            scheduleFlush(this::flushSourceFiles, delay);
+            return;
+        }
+        try {
+            notifySourceFiles();
+        } catch (ProcessCanceledException e) {
+            throw e;
+        } catch (Throwable t) {
+            LOGGER.error("Failed to notify classpath resource change", t);
+        }
+    }
 
-            debounceTimer.schedule(debounceTask, DEBOUNCE_DELAY);
+    private void flushLibraries() {
+        long delay = librariesDebouncer.pollDelay();
+        if (delay > 0) {
+            scheduleFlush(this::flushLibraries, delay);
+            return;
         }
+        notifyLibraries();
     }
 
-    private void notifyChanges() {
+    private void resolveChangedFiles() {
+        if (psiChangedFiles.isEmpty()) {
+            return;
+        }
+        List<VirtualFile> files = psiChangedFiles.drain();
+        List<Pair<VirtualFile, Module>> resolved = ReadAction.compute(() -> {
+            List<Pair<VirtualFile, Module>> pairs = new ArrayList<>(files.size());
+            if (project.isDisposed()) {
+                return pairs;
+            }
+            for (VirtualFile file : files) {
+                if (!file.isValid() || !file.exists()) {
+                    // The file doesn't exist
+                    continue;
+                }
+                if (!PsiMicroProfileProjectManager.isJavaFile(file) && !PsiMicroProfileProjectManager.isConfigSource(file)) {
+                    continue;
+                }
+                // The file is a Java file or microprofile-config.properties
+                Module module = LSPIJUtils.getModule(file, project);
+                if (module != null && !module.isDisposed()) {
+                    pairs.add(Pair.pair(file, module));
+                }
+            }
+            return pairs;
+        });
+        synchronized (sourceFiles) {
+            sourceFiles.addAll(resolved);
+        }
+    }
+
+    private void notifySourceFiles() {
         if (isDisposed()) {
             return;
         }
+        resolveChangedFiles();
         synchronized (sourceFiles) {
+            if (sourceFiles.isEmpty()) {
+                return;
+            }
             // Java, config sources files has changed
             project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).sourceFilesChanged(sourceFiles);
             sourceFiles.clear();
         }
-        if (librariesChanged) {
-            // Java Libraries has changed
-            if (ApplicationManager.getApplication().isUnitTestMode()) {
-                // Send the libraries changed event
-                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                librariesChanged = false;
-            } else {
-                // There are some preprocessor (ex : Quarkus deployment preprocessor to load Quarkus deployment dependencies in the classpath).
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    new Task.Backgroundable(project, "Overriding MicroProfile classpath...", true) {
-                        @Override
-                        public void run(@NotNull ProgressIndicator progressIndicator) {
-                            try {
-                                // Execute preprocessor
-                                progressIndicator.setIndeterminate(false);
-                                progressIndicator.checkCanceled();
-                            } finally {
-                                // Send the libraries changed event
-                                project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
-                                librariesChanged = false;
-                            }
+    }
+
+    private void notifyLibraries() {
+        if (isDisposed() || !librariesChanged) {
+            return;
+        }
+        // The flag is reset before the event is sent, so that the libraries which change meanwhile are notified again
+        librariesChanged = false;
+        // Java Libraries has changed
+        if (ApplicationManager.getApplication().isUnitTestMode()) {
+            // Send the libraries changed event
+            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
+        } else {
+            // There are some preprocessor (ex : Quarkus deployment preprocessor to load Quarkus deployment dependencies in the classpath).
+            ApplicationManager.getApplication().invokeLater(() -> {
+                new Task.Backgroundable(project, "Overriding MicroProfile classpath...", true) {
+                    @Override
+                    public void run(@NotNull ProgressIndicator progressIndicator) {
+                        try {
+                            // Execute preprocessor
+                            progressIndicator.setIndeterminate(false);
+                            progressIndicator.checkCanceled();
+                        } finally {
+                            // Send the libraries changed event
+                            project.getMessageBus().syncPublisher(ClasspathResourceChangedManager.TOPIC).librariesChanged();
                         }
-                    }.queue();
-                }, ModalityState.defaultModalityState(), project.getDisposed());
-            }
+                    }
+                }.queue();
+            }, ModalityState.defaultModalityState(), project.getDisposed());
         }
     }
 
@@ -144,17 +259,7 @@ public class ClasspathResourceChangedNotifier implements Disposable {
 
     @Override
     public void dispose() {
-        if (isDisposed()) {
-            return;
-        }
+        // The debounce alarm is a child of this notifier, so its pending flushes are cancelled by the Disposer
         this.disposed = true;
-        if (debounceTask != null) {
-            debounceTask.cancel();
-            debounceTask = null;
-        }
-        if (debounceTimer != null) {
-            debounceTimer.cancel();
-            debounceTimer = null;
-        }
     }
-}
\ No newline at end of file
+}
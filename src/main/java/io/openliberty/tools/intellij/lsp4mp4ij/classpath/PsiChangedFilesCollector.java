@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the files changed by the Psi tree change events, until they are notified by the
+ * {@link ClasspathResourceChangedNotifier}.
+ *
+ * <p>
+ * A refactoring or a formatter run fires thousands of Psi events for a few files, so the events are deduplicated
+ * per file, without checking the kind or the module of the file. The files are filtered and their
+ * modules are resolved when the collected files are notified.
+ * </p>
+ */
+class PsiChangedFilesCollector {
+
+    private final Set<VirtualFile> files = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Collects the file of the given Psi file.
+     *
+     * @param psiFile the changed Psi file.
+     * @return true if the file was not collected yet, and false otherwise.
+     */
+    boolean add(@NotNull PsiFile psiFile) {
+        VirtualFile file = psiFile.getVirtualFile();
+        if (file == null) {
+            // In-memory Psi file
+            return false;
+        }
+        return files.add(file);
+    }
+
+    /**
+     * Returns and removes the collected files.
+     *
+     * @return the collected files.
+     */
+    List<VirtualFile> drain() {
+        List<VirtualFile> drained = new ArrayList<>(files.size());
+        for (Iterator<VirtualFile> iterator = files.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return files.isEmpty();
+    }
+}
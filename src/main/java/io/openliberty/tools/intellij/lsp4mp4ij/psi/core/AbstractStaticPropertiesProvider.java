@@ -5,6 +5,7 @@ import com.google.gson.GsonBuilder;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertiesIndex;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,10 @@ import java.nio.charset.StandardCharsets;
 public abstract class AbstractStaticPropertiesProvider extends AbstractPropertiesProvider {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractStaticPropertiesProvider.class);
 
+	// EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
+	// coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
+	private static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+
 	private final String path;
 
 	private ConfigurationMetadata metadata;
@@ -44,6 +49,15 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		this.mergingStrategy = mergingStrategy;
 	}
 
+	/**
+	 * Returns the path of the JSON file which hosts the static properties.
+	 *
+	 * @return the path of the JSON file which hosts the static properties.
+	 */
+	public String getPath() {
+		return path;
+	}
+
 	@Override
 	public final void endSearch(SearchContext context) {
 		if (isAdaptedFor(context)) {
@@ -87,14 +101,27 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 	 * Returns a <code>ConfigurationMetadata</code> instance from
 	 * the data stored from the json file located at <code>this.path</code>
 	 *
+	 * <p>
+	 * The JSON files bundled with the plugin are read from the shared
+	 * {@link StaticPropertiesIndex}, the other files are parsed.
+	 * </p>
+	 *
 	 * @return <code>ConfigurationMetadata</code> instance from
 	 * the data stored from the json file located at <code>this.path</code>
 	 * @throws IOException
 	 */
 	protected ConfigurationMetadata getMetadata() throws IOException {
+		ConfigurationMetadata indexedMetadata = StaticPropertiesIndex.getMetadata(path);
+		if (indexedMetadata != null) {
+			return indexedMetadata;
+		}
 		InputStream in = getInputStream();
-		Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.name());
-		return createGson().fromJson(reader, ConfigurationMetadata.class);
+		if (in == null) {
+			return null;
+		}
+		try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+			return GSON.fromJson(reader, ConfigurationMetadata.class);
+		}
 	}
 
 	/**
@@ -116,12 +143,6 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 		return stream;
 	}
 
-	private static Gson createGson() {
-		// EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
-		// coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
-		return new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
-	}
-
 
 	@Override
 	public void collectProperties(PsiModifierListOwner match, SearchContext context) {
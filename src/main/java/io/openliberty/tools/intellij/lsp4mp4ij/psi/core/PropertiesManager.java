@@ -10,23 +10,29 @@
  ******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.SearchScope;
-import com.intellij.util.MergeQuery;
+import com.intellij.psi.util.ClassUtil;
 import com.intellij.util.Query;
 import com.intellij.util.UniqueResultsQuery;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.MicroProfileProjectInfoCache;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertyProviderExtensionPointBean;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.PropertiesProviderRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.ClasspathKind;
@@ -35,6 +41,10 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -42,10 +52,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * MicroProfile properties manager used to:
@@ -62,6 +82,11 @@ public class PropertiesManager {
 
     private static final PropertiesManager INSTANCE = new PropertiesManager();
 
+    /**
+     * Above this number of changed Java files, the properties are fully recomputed instead of being updated.
+     */
+    private static final int MAX_CHANGED_FILES_FOR_DELTA = 50;
+
     public static PropertiesManager getInstance() {
         return INSTANCE;
     }
@@ -90,55 +115,334 @@ public class PropertiesManager {
     public MicroProfileProjectInfo getMicroProfileProjectInfo(Module module,
                                                               List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IPsiUtils utils,
                                                               DocumentFormat documentFormat, ProgressIndicator monitor) {
-        MicroProfileProjectInfo info = createInfo(module, classpathKind);
         if (classpathKind == ClasspathKind.NONE) {
+            MicroProfileProjectInfo info = createInfo(module, classpathKind);
             info.setProperties(Collections.emptyList());
             return info;
         }
+        if (module == null) {
+            return computeMicroProfileProjectInfo(null, scopes, classpathKind, utils, documentFormat, new ConcurrentHashMap<>(), monitor);
+        }
+        MicroProfileProjectInfoCache cache = MicroProfileProjectInfoCache.getInstance(module.getProject());
+        long modificationCount = cache.getModificationCount();
+        MicroProfileProjectInfoCache.Entry entry = cache.get(module, scopes, classpathKind, documentFormat);
+        MicroProfileProjectInfo info = null;
+        Map<String, Set<String>> fileTypes = null;
+        if (entry != null) {
+            Set<VirtualFile> changedFiles = entry.getChangedFiles();
+            if (changedFiles.isEmpty()) {
+                return entry.getInfo();
+            }
+            if (changedFiles.size() <= MAX_CHANGED_FILES_FOR_DELTA) {
+                fileTypes = new ConcurrentHashMap<>(entry.getFileTypes());
+                info = updateMicroProfileProjectInfo(module, scopes, classpathKind, utils, documentFormat, entry.getInfo(),
+                        changedFiles, fileTypes, monitor);
+            }
+        }
+        if (info == null) {
+            fileTypes = new ConcurrentHashMap<>();
+            info = computeMicroProfileProjectInfo(module, scopes, classpathKind, utils, documentFormat, fileTypes, monitor);
+        }
+        cache.put(module, scopes, classpathKind, documentFormat, info, fileTypes, modificationCount);
+        return info;
+    }
+
+    private MicroProfileProjectInfo computeMicroProfileProjectInfo(Module module,
+                                                                   List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IPsiUtils utils,
+                                                                   DocumentFormat documentFormat, Map<String, Set<String>> fileTypes,
+                                                                   ProgressIndicator monitor) {
+        MicroProfileProjectInfo info = createInfo(module, classpathKind);
         monitor.setText("Scanning MicroProfile properties for '" + module.getName() + "' project in '" + scopes.stream() //
                 .map(MicroProfilePropertiesScope::name) //
                 .collect(Collectors.joining("+")) //
                 + "'");
         long startTime = System.currentTimeMillis();
-        boolean excludeTestCode = classpathKind == ClasspathKind.SRC;
         PropertiesCollector collector = new PropertiesCollector(info, scopes);
+        List<PropertiesProviderTiming> timings = new ArrayList<>();
         if (module != null) {
             SearchScope scope = createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST);
+            PropertiesProviderRegistry registry = PropertiesProviderRegistry.getInstance();
+            List<IPropertiesProvider> searchProviders = registry.getSearchProviders();
+            // Merge the result of each provider in the order of the providers
+            for (ProviderResult result : collectProperties(searchProviders, module, scope, scopes, utils, documentFormat, fileTypes, monitor)) {
+                collector.collect(result.metadata);
+                timings.add(result.timing);
+            }
+            // Static properties are merged at the end, because they are ignored when a property with the same name exists.
             SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
-            Query<PsiModifierListOwner> query = createSearchQuery(context);
-            if (query != null) {
-                try {
-                    beginSearch(context, monitor);
-                    query.forEach((Consumer<? super PsiModifierListOwner>) psiMember -> collectProperties(psiMember, context, monitor));
-                }
-                finally {
-                    endSearch(context, monitor);
-                }
+            for (IPropertiesProvider provider : registry.getStaticProviders()) {
+                monitor.checkCanceled();
+                long providerStartTime = System.nanoTime();
+                int size = info.getProperties().size();
+                provider.beginSearch(context);
+                provider.endSearch(context);
+                timings.add(new PropertiesProviderTiming(getProviderName(provider),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - providerStartTime), info.getProperties().size() - size));
             }
         }
         LOGGER.info("End computing MicroProfile properties for '" + info.getProjectURI() + "' in "
                 + (System.currentTimeMillis() - startTime) + "ms.");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("MicroProfile properties providers of '" + info.getProjectURI() + "': " + formatTimings(timings));
+        }
         return info;
     }
 
-    private void beginSearch(SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
-            monitor.checkCanceled();
-            provider.beginSearch(context);
+    /**
+     * Runs the search of each given provider concurrently with a dedicated collector and returns the collected
+     * metadata in the order of the given providers.
+     */
+    private List<ProviderResult> collectProperties(List<IPropertiesProvider> providers, Module module, SearchScope scope,
+                                                   List<MicroProfilePropertiesScope> scopes, IPsiUtils utils,
+                                                   DocumentFormat documentFormat, Map<String, Set<String>> fileTypes,
+                                                   ProgressIndicator monitor) {
+        ProviderResult[] results = new ProviderResult[providers.size()];
+        List<Integer> indexes = IntStream.range(0, providers.size()).boxed().collect(Collectors.toList());
+        // The workers share the read action of the current thread
+        boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, monitor, index -> {
+            results[index] = collectProperties(providers.get(index), module, scope, scopes, utils, documentFormat, fileTypes, monitor);
+            return true;
+        });
+        if (!completed) {
+            throw new ProcessCanceledException();
         }
+        return Arrays.asList(results);
     }
 
-    private void endSearch(SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
-            monitor.checkCanceled();
+    private ProviderResult collectProperties(IPropertiesProvider provider, Module module, SearchScope scope,
+                                             List<MicroProfilePropertiesScope> scopes, IPsiUtils utils,
+                                             DocumentFormat documentFormat, Map<String, Set<String>> fileTypes,
+                                             ProgressIndicator monitor) {
+        long startTime = System.nanoTime();
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        PropertiesCollector collector = new PropertiesCollector(metadata, scopes);
+        SearchContext context = new SearchContext(module, scope, collector, utils, documentFormat);
+        provider.beginSearch(context);
+        try {
+            Query<PsiModifierListOwner> query = provider.createSearchPattern(context);
+            if (query != null) {
+                new UniqueResultsQuery<>(query).forEach((Consumer<? super PsiModifierListOwner>) psiMember -> {
+                    monitor.checkCanceled();
+                    provider.collectProperties(psiMember, context);
+                    collectFileTypes(psiMember, fileTypes);
+                });
+            }
+        } finally {
             provider.endSearch(context);
         }
+        PropertiesProviderTiming timing = new PropertiesProviderTiming(getProviderName(provider),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), metadata.getProperties().size());
+        return new ProviderResult(metadata, timing);
+    }
+
+    private static String getProviderName(IPropertiesProvider provider) {
+        if (provider instanceof AbstractStaticPropertiesProvider staticProvider && staticProvider.getPath() != null) {
+            return provider.getClass().getSimpleName() + "[" + staticProvider.getPath() + "]";
+        }
+        return provider.getClass().getSimpleName();
+    }
+
+    private static String formatTimings(List<PropertiesProviderTiming> timings) {
+        return timings.stream()
+                .sorted(Comparator.comparingLong(PropertiesProviderTiming::getDurationMillis).reversed())
+                .map(PropertiesProviderTiming::toString)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static class ProviderResult {
+
+        private final ConfigurationMetadata metadata;
+
+        private final PropertiesProviderTiming timing;
+
+        ProviderResult(ConfigurationMetadata metadata, PropertiesProviderTiming timing) {
+            this.metadata = metadata;
+            this.timing = timing;
+        }
+    }
+
+    /**
+     * Returns a copy of the given cached project info where the properties contributed by the given changed Java files
+     * are recomputed, or null if a full scan is required.
+     *
+     * <p>
+     * The search is re-executed with the changed files as scope, and the properties and hint values whose source
+     * type is declared in a changed file are replaced at their position. Properties which are shared between several
+     * Java elements (ex : the fault tolerance annotation properties) are kept and are not duplicated. When a property
+     * or a hint value is added or removed, a full scan is required since the added or removed property names may
+     * shadow or reveal static properties, and the position of the properties depends on the order of the scan.
+     * </p>
+     */
+    private @Nullable MicroProfileProjectInfo updateMicroProfileProjectInfo(Module module,
+                                                                            List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind, IPsiUtils utils,
+                                                                            DocumentFormat documentFormat, MicroProfileProjectInfo cachedInfo,
+                                                                            Set<VirtualFile> changedFiles, Map<String, Set<String>> fileTypes,
+                                                                            ProgressIndicator monitor) {
+        long startTime = System.currentTimeMillis();
+        // Collect the types declared before and after the change in the changed files
+        Set<String> changedTypes = new HashSet<>();
+        List<VirtualFile> existingFiles = new ArrayList<>();
+        PsiManager psiManager = PsiManager.getInstance(module.getProject());
+        for (VirtualFile file : changedFiles) {
+            Set<String> oldTypes = fileTypes.remove(file.getUrl());
+            if (oldTypes != null) {
+                changedTypes.addAll(oldTypes);
+            }
+            if (file.isValid()) {
+                PsiFile psiFile = psiManager.findFile(file);
+                if (psiFile instanceof PsiJavaFile javaFile) {
+                    changedTypes.addAll(getTypeNames(javaFile));
+                    existingFiles.add(file);
+                }
+            }
+        }
+        List<ItemHint> cachedHints = cachedInfo.getHints() != null ? cachedInfo.getHints() : Collections.emptyList();
+        for (ItemHint hint : cachedHints) {
+            if (changedTypes.contains(hint.getName())) {
+                // An enum used as hint has changed, the hint values must be recomputed for all properties
+                return null;
+            }
+        }
+
+        // Copy the cached project info and index the contribution of the changed files by key
+        List<ItemMetadata> properties = cachedInfo.getProperties() != null ? new ArrayList<>(cachedInfo.getProperties()) : new ArrayList<>();
+        Set<String> propertyKeys = new HashSet<>();
+        Map<String, Integer> changedPropertyIndexes = new HashMap<>();
+        for (int i = 0; i < properties.size(); i++) {
+            ItemMetadata property = properties.get(i);
+            String key = getPropertyKey(property);
+            propertyKeys.add(key);
+            if (changedTypes.contains(property.getSourceType()) && changedPropertyIndexes.put(key, i) != null) {
+                return null;
+            }
+        }
+        List<ItemHint> hints = new ArrayList<>();
+        Map<String, ItemHint> hintsByName = new HashMap<>();
+        Map<String, Integer> changedValueIndexes = new HashMap<>();
+        for (ItemHint cachedHint : cachedHints) {
+            ItemHint hint = copyHint(cachedHint);
+            hints.add(hint);
+            hintsByName.put(hint.getName(), hint);
+            for (int i = 0; i < hint.getValues().size(); i++) {
+                ValueHint value = hint.getValues().get(i);
+                if (changedTypes.contains(value.getSourceType())
+                        && changedValueIndexes.put(getValueKey(hint, value), i) != null) {
+                    return null;
+                }
+            }
+        }
+
+        // Collect the properties of the changed files and replace their previous contribution
+        Set<String> replacedPropertyKeys = new HashSet<>();
+        Set<String> replacedValueKeys = new HashSet<>();
+        if (!existingFiles.isEmpty()) {
+            SearchScope scope = GlobalSearchScope.filesScope(module.getProject(), existingFiles)
+                    .intersectWith(createSearchScope(module, scopes, classpathKind == ClasspathKind.TEST));
+            // Static properties don't depend on source files, they are kept from the cached project info
+            List<IPropertiesProvider> searchProviders = PropertiesProviderRegistry.getInstance().getSearchProviders();
+            ConfigurationMetadata delta = new ConfigurationMetadata();
+            PropertiesCollector collector = new PropertiesCollector(delta, scopes);
+            for (ProviderResult result : collectProperties(searchProviders, module, scope, scopes, utils, documentFormat, fileTypes, monitor)) {
+                collector.collect(result.metadata);
+            }
+            for (ItemMetadata property : delta.getProperties()) {
+                String key = getPropertyKey(property);
+                Integer index = changedPropertyIndexes.get(key);
+                if (index != null) {
+                    if (!replacedPropertyKeys.add(key)) {
+                        return null;
+                    }
+                    properties.set(index, property);
+                } else if (changedTypes.contains(property.getSourceType()) || !propertyKeys.contains(key)) {
+                    // A property has been added
+                    return null;
+                }
+            }
+            for (ItemHint deltaHint : delta.getHints()) {
+                ItemHint hint = hintsByName.get(deltaHint.getName());
+                if (hint == null) {
+                    // A hint has been added
+                    return null;
+                }
+                if (deltaHint.getValues() != null) {
+                    for (ValueHint value : deltaHint.getValues()) {
+                        String key = getValueKey(hint, value);
+                        Integer index = changedValueIndexes.get(key);
+                        if (index != null) {
+                            if (!replacedValueKeys.add(key)) {
+                                return null;
+                            }
+                            hint.getValues().set(index, value);
+                        } else if (changedTypes.contains(value.getSourceType())
+                                || hint.getValues().stream().noneMatch(existing -> Objects.equals(existing.getValue(), value.getValue())
+                                && Objects.equals(existing.getSourceType(), value.getSourceType()))) {
+                            // A hint value has been added
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+        if (replacedPropertyKeys.size() != changedPropertyIndexes.size()
+                || replacedValueKeys.size() != changedValueIndexes.size()) {
+            // A property or a hint value has been removed
+            return null;
+        }
+        MicroProfileProjectInfo info = createInfo(module, classpathKind);
+        info.setProperties(properties);
+        info.setHints(hints);
+        LOGGER.info("End updating MicroProfile properties for '" + info.getProjectURI() + "' with " + changedFiles.size()
+                + " changed file(s) in " + (System.currentTimeMillis() - startTime) + "ms.");
+        return info;
     }
 
-    private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
-            monitor.checkCanceled();
-            provider.collectProperties(psiMember, context);
+    private static ItemHint copyHint(ItemHint hint) {
+        ItemHint copy = new ItemHint();
+        copy.setName(hint.getName());
+        copy.setDescription(hint.getDescription());
+        copy.setSourceType(hint.getSourceType());
+        copy.setSource(hint.getSource());
+        copy.setProviders(hint.getProviders());
+        copy.setValues(hint.getValues() != null ? new ArrayList<>(hint.getValues()) : new ArrayList<>());
+        return copy;
+    }
+
+    private static String getValueKey(ItemHint hint, ValueHint value) {
+        return hint.getName() + '#' + value.getValue() + '#' + value.getSourceType();
+    }
+
+    private static String getPropertyKey(ItemMetadata property) {
+        return property.getName() + '#' + property.getSourceType() + '#' + property.getSourceField() + '#'
+                + property.getSourceMethod();
+    }
+
+    private static void collectFileTypes(PsiModifierListOwner psiMember, Map<String, Set<String>> fileTypes) {
+        PsiFile psiFile = psiMember.getContainingFile();
+        if (psiFile instanceof PsiJavaFile javaFile && !(psiFile instanceof PsiCompiledElement)) {
+            VirtualFile file = psiFile.getVirtualFile();
+            if (file != null) {
+                fileTypes.computeIfAbsent(file.getUrl(), url -> getTypeNames(javaFile));
+            }
+        }
+    }
+
+    private static Set<String> getTypeNames(PsiJavaFile javaFile) {
+        Set<String> typeNames = new HashSet<>();
+        for (PsiClass type : javaFile.getClasses()) {
+            collectTypeNames(type, typeNames);
+        }
+        return typeNames;
+    }
+
+    private static void collectTypeNames(PsiClass type, Set<String> typeNames) {
+        // Members use the JVM class name as source type, classes use the qualified name
+        String qualifiedName = type.getQualifiedName();
+        if (qualifiedName != null) {
+            typeNames.add(qualifiedName);
+            typeNames.add(ClassUtil.getJVMClassName(type));
+        }
+        for (PsiClass innerType : type.getInnerClasses()) {
+            collectTypeNames(innerType, typeNames);
         }
     }
 
@@ -171,31 +475,6 @@ public class PropertiesManager {
         return searchScope;
     }
 
-    private @Nullable Query<PsiModifierListOwner> createSearchQuery(SearchContext context) {
-        Query<PsiModifierListOwner> query = null;
-
-        for (IPropertiesProvider provider : getPropertiesProviders()) {
-            Query<PsiModifierListOwner> providerQuery = provider.createSearchPattern(context);
-            if (providerQuery != null) {
-                if (query == null) {
-                    query = providerQuery;
-                } else {
-                    query = new MergeQuery<>(query, providerQuery);
-                }
-            }
-        }
-        return new UniqueResultsQuery<>(query);
-    }
-
-    @NotNull
-    List<IPropertiesProvider> getPropertiesProviders() {
-        List<IPropertiesProvider> allProviders = new ArrayList<>();
-        allProviders.addAll(IPropertiesProvider.EP_NAME.getExtensionList());
-        allProviders.addAll(StaticPropertyProviderExtensionPointBean.EP_NAME.getExtensionList().stream()
-                .map(bean -> bean.getInstance()).collect(Collectors.toList()));
-        return allProviders;
-    }
-
     // ---------------------------------- Properties definition
 
     public Location findPropertyLocation(MicroProfilePropertyDefinitionParams params, IPsiUtils utils) {
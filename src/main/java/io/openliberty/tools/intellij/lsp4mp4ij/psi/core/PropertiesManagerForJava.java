@@ -16,6 +16,7 @@ import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
@@ -31,6 +32,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.IJavaHoverPar
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.hover.JavaHoverContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.codeaction.CodeActionHandler;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4mp.commons.*;
 import org.jetbrains.annotations.Nullable;
@@ -409,10 +411,15 @@ public final class PropertiesManagerForJava {
     }
 
     private static @Nullable Module getModule(String uri, IPsiUtils utils) {
-        Module[] modules = ModuleManager.getInstance(utils.getProject()).getModules();
-        for (Module module : modules) {
-            if (uri.equals(module.getName())) {
-                return module;
+        ModuleManager moduleManager = ModuleManager.getInstance(utils.getProject());
+        Module module = moduleManager.findModuleByName(uri);
+        if (module != null) {
+            return module;
+        }
+        // The project URI sent by the language server is the one computed with PsiUtilsLSImpl#getProjectURI
+        for (Module candidate : moduleManager.getModules()) {
+            if (uri.equals(PsiUtilsLSImpl.getProjectURI(candidate))) {
+                return candidate;
             }
         }
         return null;
@@ -428,6 +435,10 @@ public final class PropertiesManagerForJava {
         if (definitions.isEmpty()) {
             return;
         }
-        definitions.forEach(definition -> definition.collectSymbols(project, utils, symbols, monitor));
+        // During the indexing, only the participants which read the index with the dumb mode access are called
+        boolean dumb = DumbService.isDumb(project.getProject());
+        definitions.stream()
+                .filter(definition -> !dumb || DumbService.isDumbAware(definition))
+                .forEach(definition -> definition.collectSymbols(project, utils, symbols, monitor));
     }
 }
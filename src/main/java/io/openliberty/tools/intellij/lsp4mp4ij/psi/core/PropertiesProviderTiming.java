@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core;
+
+/**
+ * Time spent and number of properties collected by a properties provider during a scan of a project.
+ */
+final class PropertiesProviderTiming {
+
+    private final String providerName;
+
+    private final long durationMillis;
+
+    private final int propertiesCount;
+
+    PropertiesProviderTiming(String providerName, long durationMillis, int propertiesCount) {
+        this.providerName = providerName;
+        this.durationMillis = durationMillis;
+        this.propertiesCount = propertiesCount;
+    }
+
+    long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return providerName + ": " + durationMillis + "ms, " + propertiesCount + " properties";
+    }
+}
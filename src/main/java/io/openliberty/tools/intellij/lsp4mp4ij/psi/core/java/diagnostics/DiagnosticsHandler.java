@@ -12,11 +12,9 @@
 
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
 
-import com.intellij.openapi.application.ApplicationManager;
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.util.Computable;
-import com.intellij.openapi.util.ThrowableComputable;
-import com.intellij.psi.PsiFile;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.corrections.JavaDiagnosticsDefinition;
 import org.eclipse.lsp4j.Diagnostic;
@@ -24,13 +22,19 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public final class DiagnosticsHandler {
 
@@ -38,59 +42,109 @@ public final class DiagnosticsHandler {
 
     private final String group;
 
+    /**
+     * The id of the latest pending diagnostics request of each URI, used to cancel the validation of outdated
+     * requests. The entry of a URI is removed when its latest request is finished.
+     */
+    private final Map<String, Long> latestRequestIds = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestIdGenerator = new AtomicLong();
+
     public DiagnosticsHandler(String group) {
         this.group = group;
     }
 
+    /**
+     * Returns the diagnostics of the given URIs. The URIs are validated concurrently, and the URIs for which a newer
+     * diagnostics request is received in the meantime are cancelled and left out of the result.
+     *
+     * @param params the diagnostics parameters.
+     * @param utils  the utilities class.
+     * @return the diagnostics of the given URIs.
+     */
     public List<PublishDiagnosticsParams> collectDiagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<>();
-        for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
+        long[] requestIds = new long[uris.size()];
+        for (int i = 0; i < uris.size(); i++) {
+            // The ids increase across URIs, so an entry which is removed and recreated never reuses an id
+            requestIds[i] = requestIdGenerator.incrementAndGet();
+            latestRequestIds.merge(uris.get(i), requestIds[i], Math::max);
+        }
+        PublishDiagnosticsParams[] publishDiagnostics = new PublishDiagnosticsParams[uris.size()];
+        try {
+            if (uris.size() == 1) {
+                publishDiagnostics[0] = collectDiagnostics(uris.get(0), requestIds[0], utils, documentFormat, params.getSettings());
+            } else {
+                List<Integer> indexes = IntStream.range(0, uris.size()).boxed().toList();
+                // The workers share the read action of the current thread
+                boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes,
+                        ProgressManager.getInstance().getProgressIndicator(), index -> {
+                            publishDiagnostics[index] = collectDiagnostics(uris.get(index), requestIds[index], utils,
+                                    documentFormat, params.getSettings());
+                            return true;
+                        });
+                if (!completed) {
+                    throw new ProcessCanceledException();
+                }
+            }
+        } finally {
+            for (int i = 0; i < uris.size(); i++) {
+                // Only the URIs which are being validated are kept
+                latestRequestIds.remove(uris.get(i), requestIds[i]);
+            }
         }
-        return publishDiagnostics;
+        return Stream.of(publishDiagnostics).filter(Objects::nonNull).toList();
     }
 
-    private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
-                                    MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
-        PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
-        if (typeRoot == null) {
-            return;
+    private @Nullable PublishDiagnosticsParams collectDiagnostics(String uri, long requestId, IPsiUtils utils,
+                                                                  DocumentFormat documentFormat,
+                                                                  MicroProfileJavaDiagnosticsSettings settings) {
+        if (isStale(uri, requestId)) {
+            return null;
         }
-
-        try {
-            Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
-            // Collect all adapted diagnostic definitions
-            JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
-            List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME.getExtensionList()
-                    .stream()
-                    .filter(definition -> group.equals(definition.getGroup()))
-                    .filter(definition -> definition.isAdaptedForDiagnostics(context))
-                    .toList();
-
-            // Begin, collect, end participants
-            definitions.forEach(definition -> definition.beginDiagnostics(context));
-            definitions.forEach(definition -> {
-                List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
-                if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                    diagnostics.addAll(collectedDiagnostics);
-                }
-            });
-            definitions.forEach(definition -> definition.endDiagnostics(context));
-        } catch (IOException e) {
-            LOGGER.warn(e.getLocalizedMessage(), e);
+        List<Diagnostic> diagnostics = new ArrayList<>(JavaDiagnosticsSessions.getInstance(utils.getProject())
+                .getDiagnostics(group, uri, utils, documentFormat, settings));
+        if (isStale(uri, requestId)) {
+            LOGGER.debug("Diagnostics of {} superseded by a newer request", uri);
+            return null;
         }
+        return new PublishDiagnosticsParams(uri, diagnostics);
     }
 
-    // REVISIT: Make this a public method on a common utility class?
-    private static PsiFile resolveTypeRoot(String uri, IPsiUtils utils) {
-        return utils.resolveCompilationUnit(uri);
+    private boolean isStale(String uri, long requestId) {
+        Long latestRequestId = latestRequestIds.get(uri);
+        return latestRequestId != null && latestRequestId > requestId;
+    }
+
+    /**
+     * Returns the diagnostics of the participants of the given group for the given context.
+     *
+     * @param group   the diagnostics group.
+     * @param context the java diagnostics context.
+     * @return the diagnostics of the participants of the given group.
+     */
+    static List<Diagnostic> collectDiagnostics(String group, JavaDiagnosticsContext context) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        // Collect all adapted diagnostic definitions
+        List<JavaDiagnosticsDefinition> definitions = JavaDiagnosticsDefinition.EP_NAME
+                .getByGroupingKey(group, DiagnosticsHandler.class, JavaDiagnosticsDefinition::getGroup)
+                .stream()
+                .filter(definition -> definition.isAdaptedForDiagnostics(context))
+                .toList();
+
+        // Begin, collect, end participants
+        definitions.forEach(definition -> definition.beginDiagnostics(context));
+        definitions.forEach(definition -> {
+            List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
+            if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+                diagnostics.addAll(collectedDiagnostics);
+            }
+        });
+        definitions.forEach(definition -> definition.endDiagnostics(context));
+        return diagnostics;
     }
 }
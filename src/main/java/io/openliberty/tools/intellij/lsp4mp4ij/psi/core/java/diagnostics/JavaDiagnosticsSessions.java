@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-document Java diagnostics sessions shared by the diagnostics groups.
+ *
+ * <p>
+ * The MicroProfile ("mp") and Jakarta ("jakarta") language servers both request the diagnostics of a Java document
+ * after each change. The first request of a document resolves the {@link PsiFile} and the {@link Module} once and
+ * computes the diagnostics of every group which has already requested diagnostics, with the settings of its last
+ * request. The results are cached for the PSI and project roots modification counts they were computed with, so that
+ * the request of the other group is served from the cache.
+ * </p>
+ */
+public final class JavaDiagnosticsSessions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaDiagnosticsSessions.class);
+
+    private static final int MAX_SESSIONS = 32;
+
+    private final Project project;
+
+    /**
+     * The parameters of the last diagnostics request of each group.
+     */
+    private final Map<String, GroupParameters> groupParameters = new ConcurrentHashMap<>();
+
+    private final Map<String, Session> sessions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+            return size() > MAX_SESSIONS;
+        }
+    });
+
+    public static JavaDiagnosticsSessions getInstance(@NotNull Project project) {
+        return project.getService(JavaDiagnosticsSessions.class);
+    }
+
+    public JavaDiagnosticsSessions(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the diagnostics of the given group for the given Java document. This method must be called in a read
+     * action.
+     *
+     * @param group          the diagnostics group.
+     * @param uri            the Java document URI.
+     * @param utils          the utilities class.
+     * @param documentFormat the document format.
+     * @param settings       the diagnostics settings.
+     * @return the diagnostics of the given group for the given Java document.
+     */
+    public List<Diagnostic> getDiagnostics(String group, String uri, IPsiUtils utils, DocumentFormat documentFormat,
+                                           MicroProfileJavaDiagnosticsSettings settings) {
+        GroupParameters parameters = new GroupParameters(documentFormat, settings);
+        groupParameters.put(group, parameters);
+        Session session = sessions.computeIfAbsent(uri, Session::new);
+        return session.getDiagnostics(group, parameters, utils);
+    }
+
+    private record GroupParameters(DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
+
+        boolean isSame(GroupParameters other) {
+            return documentFormat == other.documentFormat && Objects.equals(getPatterns(), other.getPatterns());
+        }
+
+        private List<String> getPatterns() {
+            return settings != null ? settings.getPatterns() : null;
+        }
+    }
+
+    private record GroupDiagnostics(GroupParameters parameters, List<Diagnostic> diagnostics) {
+    }
+
+    private final class Session {
+
+        private final String uri;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private long psiModificationCount = -1;
+
+        private long rootsModificationCount = -1;
+
+        private final Map<String, GroupDiagnostics> diagnostics = new HashMap<>();
+
+        Session(String uri) {
+            this.uri = uri;
+        }
+
+        List<Diagnostic> getDiagnostics(String group, GroupParameters parameters, IPsiUtils utils) {
+            acquireLock();
+            try {
+                long currentPsiModificationCount = PsiModificationTracker.getInstance(project).getModificationCount();
+                long currentRootsModificationCount = ProjectRootManager.getInstance(project).getModificationCount();
+                if (currentPsiModificationCount != psiModificationCount
+                        || currentRootsModificationCount != rootsModificationCount) {
+                    diagnostics.clear();
+                    psiModificationCount = currentPsiModificationCount;
+                    rootsModificationCount = currentRootsModificationCount;
+                }
+                GroupDiagnostics cached = diagnostics.get(group);
+                if (cached == null || !cached.parameters().isSame(parameters)) {
+                    computeDiagnostics(group, parameters, utils);
+                    cached = diagnostics.get(group);
+                }
+                return cached != null ? cached.diagnostics() : Collections.emptyList();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits for the diagnostics computed by the request of another group while allowing the read action to be
+         * cancelled.
+         */
+        private void acquireLock() {
+            try {
+                while (!lock.tryLock(10, TimeUnit.MILLISECONDS)) {
+                    ProgressManager.checkCanceled();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ProgressManager.checkCanceled();
+            }
+        }
+
+        private void computeDiagnostics(String requestedGroup, GroupParameters requestedParameters, IPsiUtils utils) {
+            PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> utils.resolveCompilationUnit(uri));
+            if (typeRoot == null) {
+                return;
+            }
+            Module module;
+            try {
+                module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
+            } catch (IOException e) {
+                LOGGER.warn(e.getLocalizedMessage(), e);
+                return;
+            }
+            Map<String, GroupParameters> groups = new LinkedHashMap<>();
+            groups.put(requestedGroup, requestedParameters);
+            groupParameters.forEach((group, parameters) -> {
+                if (!diagnostics.containsKey(group)) {
+                    groups.putIfAbsent(group, parameters);
+                }
+            });
+            groups.forEach((group, parameters) -> {
+                JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module,
+                        parameters.documentFormat(), parameters.settings());
+                List<Diagnostic> groupDiagnostics = DiagnosticsHandler.collectDiagnostics(group, context);
+                diagnostics.put(group, new GroupDiagnostics(parameters, Collections.unmodifiableList(groupDiagnostics)));
+            });
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -98,6 +100,23 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		return true;
 	}
 
+	/**
+	 * Returns the fully qualified names of the annotations which trigger the
+	 * validation, or an empty collection if the validator must visit every file.
+	 *
+	 * <p>
+	 * A validator which only reports diagnostics on some annotations can
+	 * override this method so that files which don't use any of these
+	 * annotations are not visited by the validator.
+	 * </p>
+	 *
+	 * @return the fully qualified names of the annotations which trigger the
+	 *         validation.
+	 */
+	public Collection<String> getAnnotationNames() {
+		return Collections.emptySet();
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, PsiElement node, IJavaErrorCode code,
 									DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getTextOffset(), node.getTextLength(), code, severity);
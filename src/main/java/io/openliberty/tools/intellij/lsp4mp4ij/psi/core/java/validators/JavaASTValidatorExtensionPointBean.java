@@ -16,6 +16,7 @@ import com.intellij.openapi.extensions.PluginDescriptor;
 import com.intellij.util.xmlb.annotations.Attribute;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 public class JavaASTValidatorExtensionPointBean implements PluginAware {
@@ -24,12 +25,25 @@ public class JavaASTValidatorExtensionPointBean implements PluginAware {
     @Attribute
     public String implementation;
 
+    private volatile Constructor<? extends JavaASTValidator> constructor;
+
     @Override
     public void setPluginDescriptor(@NotNull PluginDescriptor pluginDescriptor) {
         this.pluginDescriptor = pluginDescriptor;
     }
 
     public JavaASTValidator createValidator() throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        return (JavaASTValidator) pluginDescriptor.getPluginClassLoader().loadClass(implementation).getConstructor(new Class[0]).newInstance(new Object[0]);
+        return getConstructor().newInstance();
+    }
+
+    private Constructor<? extends JavaASTValidator> getConstructor() throws ClassNotFoundException, NoSuchMethodException {
+        // The validator class is loaded and its constructor looked up once, the validators being created per diagnostics request
+        Constructor<? extends JavaASTValidator> current = constructor;
+        if (current == null) {
+            current = pluginDescriptor.getPluginClassLoader().loadClass(implementation)
+                    .asSubclass(JavaASTValidator.class).getConstructor();
+            constructor = current;
+        }
+        return current;
     }
 }
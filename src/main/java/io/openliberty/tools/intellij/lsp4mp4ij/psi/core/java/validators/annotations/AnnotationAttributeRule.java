@@ -90,6 +90,20 @@ public class AnnotationAttributeRule {
 		return null;
 	}
 
+	/**
+	 * Validate the given numeric attribute <code>value</code>.
+	 * 
+	 * @param value the attribute value.
+	 * @return the error message of the validation result of the attribute value and
+	 *         null otherwise.
+	 */
+	public String validate(double value) {
+		if (rangeExpression != null) {
+			return rangeExpression.validate(value);
+		}
+		return null;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -42,6 +42,19 @@ public class AnnotationRule {
 		this.rules = new ArrayList<>();
 	}
 
+	/**
+	 * Creates an immutable annotation rule with the given attribute rules.
+	 *
+	 * @param annotation the annotation name.
+	 * @param source     the diagnostic source.
+	 * @param rules      the attribute value rules.
+	 */
+	AnnotationRule(String annotation, String source, List<AnnotationAttributeRule> rules) {
+		this.annotation = annotation;
+		this.source = source;
+		this.rules = List.copyOf(rules);
+	}
+
 	/**
 	 * Returns the annotation name.
 	 * 
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable table of the {@link AnnotationRule annotation rules}, indexed by the fully qualified name and by the
+ * simple name of the annotation.
+ *
+ * <p>
+ * The table is built once from the rules contributed with the "open-liberty.intellij.javaASTValidator.annotationValidator"
+ * extension point, the range expressions of the attribute rules being parsed at that time. Validating an annotation
+ * is then a lookup of its rule in the table.
+ * </p>
+ */
+public final class AnnotationRuleTable {
+
+    public static final AnnotationRuleTable EMPTY = new AnnotationRuleTable(Collections.emptyList());
+
+    private final Map<String /* annotation name */, AnnotationRule> rulesByAnnotation;
+
+    /**
+     * The rules grouped by the simple name of their annotation. There are few rules, and scanning the simple names
+     * doesn't allocate the simple name of the looked up annotation, as a lookup in a map would.
+     */
+    private final SimpleNameRules[] rulesBySimpleName;
+
+    public AnnotationRuleTable(Collection<AnnotationRule> rules) {
+        Map<String, AnnotationRule> rulesByAnnotation = new LinkedHashMap<>();
+        Map<String, List<AnnotationRule>> rulesBySimpleName = new HashMap<>();
+        for (AnnotationRule rule : rules) {
+            AnnotationRule copy = new AnnotationRule(rule.getAnnotation(), rule.getSource(), rule.getRules());
+            rulesByAnnotation.put(rule.getAnnotation(), copy);
+            rulesBySimpleName.computeIfAbsent(StringUtil.getShortName(rule.getAnnotation()), name -> new ArrayList<>(1))
+                    .add(copy);
+        }
+        this.rulesByAnnotation = Collections.unmodifiableMap(rulesByAnnotation);
+        List<SimpleNameRules> groups = new ArrayList<>(rulesBySimpleName.size());
+        rulesBySimpleName.forEach((name, list) -> groups.add(new SimpleNameRules(name, list.toArray(new AnnotationRule[0]))));
+        this.rulesBySimpleName = groups.toArray(new SimpleNameRules[0]);
+    }
+
+    /**
+     * Returns true if the table has no rule and false otherwise.
+     *
+     * @return true if the table has no rule and false otherwise.
+     */
+    public boolean isEmpty() {
+        return rulesByAnnotation.isEmpty();
+    }
+
+    /**
+     * Returns the rules of the table, in their registration order.
+     *
+     * @return the rules of the table.
+     */
+    public @NotNull Collection<AnnotationRule> getRules() {
+        return rulesByAnnotation.values();
+    }
+
+    /**
+     * Returns the fully qualified names of the annotations which have a rule.
+     *
+     * @return the fully qualified names of the annotations which have a rule.
+     */
+    public @NotNull Set<String> getAnnotations() {
+        return rulesByAnnotation.keySet();
+    }
+
+    /**
+     * Returns the rule of the given annotation and null otherwise.
+     *
+     * <p>
+     * As {@link io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils#isMatchAnnotation} does,
+     * an annotation name which is only a suffix of the fully qualified name (ex: the name of an annotation which
+     * can't be resolved) matches the rule.
+     * </p>
+     *
+     * @param annotationName the qualified name of the annotation.
+     * @return the rule of the given annotation and null otherwise.
+     */
+    public @Nullable AnnotationRule getRule(@Nullable String annotationName) {
+        if (annotationName == null) {
+            return null;
+        }
+        AnnotationRule rule = rulesByAnnotation.get(annotationName);
+        if (rule != null) {
+            return rule;
+        }
+        int simpleNameStart = annotationName.lastIndexOf('.') + 1;
+        int simpleNameLength = annotationName.length() - simpleNameStart;
+        for (SimpleNameRules group : rulesBySimpleName) {
+            if (group.simpleName.length() == simpleNameLength
+                    && annotationName.startsWith(group.simpleName, simpleNameStart)) {
+                for (AnnotationRule candidate : group.rules) {
+                    if (candidate.getAnnotation().endsWith(annotationName)) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private record SimpleNameRules(String simpleName, AnnotationRule[] rules) {
+    }
+}
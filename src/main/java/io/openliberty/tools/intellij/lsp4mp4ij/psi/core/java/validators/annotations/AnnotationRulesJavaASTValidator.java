@@ -21,13 +21,10 @@ import com.intellij.psi.PsiBinaryExpression;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiPrefixExpression;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators.JavaASTValidatorRegistry;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.logging.Logger;
 
 /**
@@ -41,29 +38,34 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(AnnotationRulesJavaASTValidator.class.getName());
 
-	private final Collection<AnnotationRule> rules;
+	private final AnnotationRuleTable rules;
 
 	public AnnotationRulesJavaASTValidator(Collection<AnnotationRule> rules) {
+		this(new AnnotationRuleTable(rules));
+	}
+
+	public AnnotationRulesJavaASTValidator(AnnotationRuleTable rules) {
 		this.rules = rules;
 	}
 
 	@Override
-	public void visitAnnotation(PsiAnnotation annotation) {
-		// Loop for rules
-		for (AnnotationRule annotationRule : rules) {
-			if (AnnotationUtils.isMatchAnnotation(annotation, annotationRule.getAnnotation())) {
-				// The AST annotation matches a rule
-				List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
-				// Validate attributes of the AST annotation
-				for (AnnotationAttributeRule attributeRule : attributeRules) {
-
-					PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
-							attributeRule.getAttribute());
-					if (attributeValueExpr != null) {
-						validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
-					}
-				}
+	public Collection<String> getAnnotationNames() {
+		return rules.getAnnotations();
+	}
 
+	@Override
+	public void visitAnnotation(PsiAnnotation annotation) {
+		// Find the rule of the AST annotation
+		AnnotationRule annotationRule = rules.getRule(annotation.getQualifiedName());
+		if (annotationRule == null) {
+			return;
+		}
+		// Validate attributes of the AST annotation
+		for (AnnotationAttributeRule attributeRule : annotationRule.getRules()) {
+			PsiAnnotationMemberValue attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
+					attributeRule.getAttribute());
+			if (attributeValueExpr != null) {
+				validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
 			}
 		}
 	}
@@ -87,12 +89,11 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 		// Get the value of the AST attribute
 		Object valueAsObject = JavaPsiFacade.getInstance(getContext().getJavaProject().getProject()).getConstantEvaluationHelper().computeConstantExpression(attributeValueExpr);
-		String valueAsString = valueAsObject != null ? valueAsObject.toString() : null;
-		if (StringUtils.isEmpty(valueAsString)) {
+		if (!(valueAsObject instanceof Number)) {
 			return;
 		}
-		// Validate the value with the rule
-		String validationResult = JavaASTValidatorRegistry.getInstance().validate(valueAsString, attributeRule);
+		// Validate the value with the rule, the range expression of the rule being already parsed
+		String validationResult = attributeRule.validate(((Number) valueAsObject).doubleValue());
 		if (validationResult != null) {
 			// There is an error, report a diagnostic
 			super.addDiagnostic(validationResult, attributeRule.getSource(), attributeValueExpr, null,
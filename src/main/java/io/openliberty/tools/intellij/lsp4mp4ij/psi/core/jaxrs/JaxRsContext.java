@@ -14,18 +14,7 @@
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs;
 
 import com.intellij.openapi.module.Module;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
-
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
-
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
 
 /**
  * JAX-RS context.
@@ -91,15 +80,8 @@ public class JaxRsContext {
 		if (applicationPathLoaded) {
 			return applicationPath;
 		}
-		PsiClass applicationPathType = PsiTypeUtils.findType(javaProject,
-				JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
-		if (applicationPathType == null) {
-			applicationPathType = PsiTypeUtils.findType(javaProject,
-					JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
-		}
-		if (applicationPathType != null) {
-			applicationPath = findApplicationPath(applicationPathType, javaProject);
-		}
+		// The @ApplicationPath search is cached per module
+		applicationPath = JaxRsEndpointIndex.getInstance(javaProject).getApplicationPath();
 		applicationPathLoaded = true;
 		return applicationPath;
 	}
@@ -143,28 +125,4 @@ public class JaxRsContext {
 		}
 		return localBaseURL.toString();
 	}
-
-	/**
-	 * Use the java search engine to search the java project for the location and
-	 * value of the @ApplicationPath annotation, or null if not found
-	 *
-	 * @param annotationType the type representing the @ApplicationPath annotation
-	 * @param javaProject        the java project the code lens applies to
-	 * @return the value of the @ApplicationPath annotation, or null if not found
-	 */
-	private static String findApplicationPath(PsiClass annotationType, Module javaProject) {
-		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
-
-		Query<PsiClass> pattern = AnnotatedElementsSearch.searchElements(annotationType, javaProject.getModuleWithDependenciesScope(),
-				PsiClass.class);
-		pattern.forEach((Consumer<? super PsiClass>) match -> collectApplicationPath(match, applicationPathRef));
-		return applicationPathRef.get();
-	}
-
-	private static void collectApplicationPath(PsiClass type, AtomicReference<String> applicationPathRef) {
-		String applicationPathValue = getJaxRsApplicationPathValue(type);
-		if (applicationPathValue != null) {
-			applicationPathRef.set(applicationPathValue);
-		}
-	}
 }
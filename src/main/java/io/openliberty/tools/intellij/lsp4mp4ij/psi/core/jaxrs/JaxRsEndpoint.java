@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.psi.PsiMethod;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A JAX-RS request method of a class, as stored in the {@link JaxRsEndpointIndex}.
+ */
+public final class JaxRsEndpoint {
+
+	private final PsiMethod javaMethod;
+	private final HttpMethod httpMethod;
+	private final String urlTemplate;
+	private final boolean publicMethod;
+
+	JaxRsEndpoint(@NotNull PsiMethod javaMethod, @NotNull HttpMethod httpMethod, @NotNull String urlTemplate,
+				  boolean publicMethod) {
+		this.javaMethod = javaMethod;
+		this.httpMethod = httpMethod;
+		this.urlTemplate = urlTemplate;
+		this.publicMethod = publicMethod;
+	}
+
+	/**
+	 * Returns the Java method of the endpoint.
+	 *
+	 * @return the Java method of the endpoint.
+	 */
+	public @NotNull PsiMethod getJavaMethod() {
+		return javaMethod;
+	}
+
+	/**
+	 * Returns the HTTP method of the endpoint.
+	 *
+	 * @return the HTTP method of the endpoint.
+	 */
+	public @NotNull HttpMethod getHttpMethod() {
+		return httpMethod;
+	}
+
+	/**
+	 * Returns the URL template of the endpoint, relative to the base URL: the @Path value of the class followed by
+	 * the @Path value of the method.
+	 *
+	 * @return the URL template of the endpoint, relative to the base URL.
+	 */
+	public @NotNull String getUrlTemplate() {
+		return urlTemplate;
+	}
+
+	/**
+	 * Returns the URL of the endpoint for the given base URL.
+	 *
+	 * @param baseUrl the base URL.
+	 * @return the URL of the endpoint for the given base URL.
+	 */
+	public @NotNull String getUrl(String baseUrl) {
+		return JaxRsUtils.buildURL(baseUrl, urlTemplate);
+	}
+
+	/**
+	 * Returns true if the Java method is declared with an explicit public modifier and false otherwise.
+	 *
+	 * @return true if the Java method is declared with an explicit public modifier and false otherwise.
+	 */
+	public boolean isPublicMethod() {
+		return publicMethod;
+	}
+}
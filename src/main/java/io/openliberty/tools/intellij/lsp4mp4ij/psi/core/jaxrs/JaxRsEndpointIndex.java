@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PsiUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsPathValue;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.hasAnnotation;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.overlaps;
+
+/**
+ * Module index of the JAX-RS application path, resource classes and endpoints.
+ *
+ * <p>
+ * The application path and the resource classes of a module are searched once and cached until the next PSI
+ * modification or project roots change. The endpoints of a class are cached the same way on the class, so code lenses
+ * and workspace symbols of unchanged REST modules don't search the annotated elements again.
+ * </p>
+ */
+public final class JaxRsEndpointIndex {
+
+	private static final Key<CachedValue<JaxRsEndpointIndex>> INDEX_KEY = Key.create(JaxRsEndpointIndex.class.getName());
+
+	private final @Nullable String applicationPath;
+
+	private final @NotNull Set<PsiClass> resourceClasses;
+
+	private JaxRsEndpointIndex(@Nullable String applicationPath, @NotNull Set<PsiClass> resourceClasses) {
+		this.applicationPath = applicationPath;
+		this.resourceClasses = resourceClasses;
+	}
+
+	/**
+	 * Returns the JAX-RS index of the given module. This method must be called in a read action.
+	 *
+	 * @param javaProject the module.
+	 * @return the JAX-RS index of the given module.
+	 */
+	public static @NotNull JaxRsEndpointIndex getInstance(@NotNull Module javaProject) {
+		return CachedValuesManager.getManager(javaProject.getProject()).getCachedValue(javaProject, INDEX_KEY,
+				() -> CachedValueProvider.Result.create(create(javaProject), PsiModificationTracker.MODIFICATION_COUNT,
+						ProjectRootManager.getInstance(javaProject.getProject())), false);
+	}
+
+	/**
+	 * Returns the JAX-RS endpoints of the given class, in their declaration order. The nested classes are not included.
+	 * This method must be called in a read action.
+	 *
+	 * @param type the class.
+	 * @return the JAX-RS endpoints of the given class, by Java method.
+	 */
+	public static @NotNull Map<PsiMethod, JaxRsEndpoint> getEndpoints(@NotNull PsiClass type) {
+		return CachedValuesManager.getCachedValue(type, () -> CachedValueProvider.Result.create(collectEndpoints(type),
+				PsiModificationTracker.MODIFICATION_COUNT, ProjectRootManager.getInstance(type.getProject())));
+	}
+
+	/**
+	 * Returns the value of the @ApplicationPath annotation of the module and its dependencies and null otherwise.
+	 *
+	 * @return the value of the @ApplicationPath annotation and null otherwise.
+	 */
+	public @Nullable String getApplicationPath() {
+		return applicationPath;
+	}
+
+	/**
+	 * Returns the classes of the module which declare a method annotated with a JAX-RS HTTP method annotation.
+	 *
+	 * @return the classes of the module which declare a JAX-RS request method.
+	 */
+	public @NotNull Set<PsiClass> getResourceClasses() {
+		return resourceClasses;
+	}
+
+	private static JaxRsEndpointIndex create(Module javaProject) {
+		return new JaxRsEndpointIndex(findApplicationPath(javaProject), findResourceClasses(javaProject));
+	}
+
+	private static @Nullable String findApplicationPath(Module javaProject) {
+		PsiClass applicationPathType = PsiTypeUtils.findType(javaProject, JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
+		if (applicationPathType == null) {
+			applicationPathType = PsiTypeUtils.findType(javaProject, JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
+		}
+		if (applicationPathType == null) {
+			return null;
+		}
+		String applicationPath = null;
+		// The last @ApplicationPath found wins
+		for (PsiClass type : AnnotatedElementsSearch.searchPsiClasses(applicationPathType,
+				javaProject.getModuleWithDependenciesScope()).findAll()) {
+			String applicationPathValue = getJaxRsApplicationPathValue(type);
+			if (applicationPathValue != null) {
+				applicationPath = applicationPathValue;
+			}
+		}
+		return applicationPath;
+	}
+
+	private static @NotNull Set<PsiClass> findResourceClasses(Module javaProject) {
+		SearchScope scope = javaProject.getModuleScope(false);
+		Set<PsiClass> resourceClasses = new LinkedHashSet<>();
+		for (String httpAnnotation : JaxRsConstants.HTTP_METHOD_ANNOTATIONS) {
+			PsiClass annotationClass = PsiTypeUtils.findType(javaProject, httpAnnotation);
+			if (annotationClass != null) {
+				for (PsiModifierListOwner item : AnnotatedElementsSearch.searchElements(annotationClass, scope,
+						PsiModifierListOwner.class).findAll()) {
+					if (item instanceof PsiMember) {
+						PsiClass type = ((PsiMember) item).getContainingClass();
+						if (type != null) {
+							resourceClasses.add(type);
+						}
+					}
+				}
+			}
+		}
+		return Collections.unmodifiableSet(resourceClasses);
+	}
+
+	private static @NotNull Map<PsiMethod, JaxRsEndpoint> collectEndpoints(PsiClass type) {
+		String rootPath = getJaxRsPathValue(type);
+		Map<PsiMethod, JaxRsEndpoint> endpoints = new LinkedHashMap<>();
+		for (PsiElement element : type.getChildren()) {
+			if (!(element instanceof PsiMethod method)) {
+				continue;
+			}
+			if (method.isConstructor() || PsiUtils.isHiddenGeneratedElement(method) || overlapsType(method)) {
+				continue;
+			}
+			HttpMethod httpMethod = getHttpMethod(method);
+			if (httpMethod != null) {
+				String urlTemplate = JaxRsUtils.buildURL(rootPath, getJaxRsPathValue(method));
+				endpoints.put(method, new JaxRsEndpoint(method, httpMethod, urlTemplate,
+						method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)));
+			}
+		}
+		return Collections.unmodifiableMap(endpoints);
+	}
+
+	private static @Nullable HttpMethod getHttpMethod(PsiMethod method) {
+		for (String methodAnnotationFQN : JaxRsConstants.HTTP_METHOD_ANNOTATIONS) {
+			if (hasAnnotation(method, methodAnnotationFQN)) {
+				return JaxRsUtils.getHttpMethodForAnnotation(methodAnnotationFQN);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns true if the method range overlaps the type range, which happens for generated bytecode, i.e. with lombok.
+	 */
+	private static boolean overlapsType(PsiMethod method) {
+		PsiClass parentType = PsiTreeUtil.getParentOfType(method, PsiClass.class);
+		PsiElement typeName = parentType != null ? parentType.getNameIdentifier() : null;
+		PsiElement methodName = method.getNameIdentifier();
+		return typeName != null && methodName != null && overlaps(typeName.getTextRange(), methodName.getTextRange());
+	}
+}
@@ -120,10 +120,22 @@ public class JaxRsUtils {
 	 */
 	public static CodeLens createURLCodeLens(String baseURL, String rootPath, String openURICommandId, PsiMethod method,
 			IPsiUtils utils) {
+		String pathValue = getJaxRsPathValue(method);
+		return createURLCodeLens(buildURL(baseURL, rootPath, pathValue), openURICommandId, method, utils);
+	}
+
+	/**
+	 * Create URL CodeLens.
+	 *
+	 * @param url              the URL of the method.
+	 * @param openURICommandId the open URI command and null otherwise.
+	 * @param method           the method.
+	 * @param utils            the JDT utilities.
+	 * @return the code lens and null otherwise.
+	 */
+	public static CodeLens createURLCodeLens(String url, String openURICommandId, PsiMethod method, IPsiUtils utils) {
 		CodeLens lens = createURLCodeLens(method, utils, true);
 		if (lens != null) {
-			String pathValue = getJaxRsPathValue(method);
-			String url = buildURL(baseURL, rootPath, pathValue);
 			lens.setCommand(
 					new Command(url, openURICommandId != null ? openURICommandId : "", Collections.singletonList(url)));
 		}
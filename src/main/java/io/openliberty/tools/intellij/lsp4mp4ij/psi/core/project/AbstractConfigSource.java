@@ -15,13 +15,13 @@ import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Map;
 
@@ -191,8 +191,8 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     public void reload(PsiFile file) {
         reset();
         String content = file.getText();
-        try (InputStream input = IOUtils.toInputStream(content, Charset.defaultCharset())) {
-            config = loadConfig(input);
+        try (Reader reader = new StringReader(content)) {
+            config = loadConfig(reader);
             lastModified = System.currentTimeMillis();
         } catch (Exception e) {
             reset();
@@ -234,6 +234,15 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      */
     protected abstract T loadConfig(InputStream input) throws IOException;
 
+    /**
+     * Load the config model from the given text <code>reader</code> (ex : the content of the edited config file).
+     *
+     * @param reader the text reader
+     * @return the config model from the given text <code>reader</code>.
+     * @throws IOException
+     */
+    protected abstract T loadConfig(Reader reader) throws IOException;
+
     /**
      * Load the property informations.
      *
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable index of the property informations of a list of config sources.
+ *
+ * <p>
+ * The index maps each property name without profile to the effective information of each profile, i.e. the
+ * information of the config source with the biggest ordinal. The property names are sorted, so the properties which
+ * share a prefix (ex : <code>org.acme.MyClient/mp-rest/</code>) are looked up with a range of the index.
+ * </p>
+ */
+public final class MicroProfileConfigPropertyIndex {
+
+    private final TreeMap<String /* property key without profile */, Entry> entries;
+
+    private MicroProfileConfigPropertyIndex(TreeMap<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the index of the property informations of the given config sources.
+     *
+     * @param configSources  the config sources, sorted by descending ordinal.
+     * @param expandedValues the expanded values of the layered config sources, by property key with profile.
+     * @return the index of the property informations of the given config sources.
+     */
+    public static MicroProfileConfigPropertyIndex create(List<IConfigSource> configSources,
+                                                         Map<String, String> expandedValues) {
+        TreeMap<String, Map<String /* profile */, List<MicroProfileConfigPropertyInformation>>> declared = new TreeMap<>();
+        // The config sources are sorted by descending ordinal, so the first information of a profile is the one
+        // which overrides the others
+        for (IConfigSource configSource : configSources) {
+            Set<String> propertyKeys = new HashSet<>();
+            for (String key : configSource.getAllKeys()) {
+                propertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key));
+            }
+            for (String propertyKey : propertyKeys) {
+                List<MicroProfileConfigPropertyInformation> infos = configSource.getPropertyInformations(propertyKey);
+                if (infos == null || infos.isEmpty()) {
+                    continue;
+                }
+                Map<String, List<MicroProfileConfigPropertyInformation>> profiles = declared
+                        .computeIfAbsent(propertyKey, k -> new TreeMap<>());
+                for (MicroProfileConfigPropertyInformation info : infos) {
+                    profiles.computeIfAbsent(info.getProfile(), k -> new ArrayList<>()).add(info);
+                }
+            }
+        }
+        TreeMap<String, Entry> entries = new TreeMap<>();
+        declared.forEach((propertyKey, profiles) -> entries.put(propertyKey, new Entry(profiles, expandedValues)));
+        return new MicroProfileConfigPropertyIndex(entries);
+    }
+
+    /**
+     * Returns the effective information of the given property for all profiles, sorted by property name with profile,
+     * with the expanded values.
+     *
+     * @param propertyKey the property without profile.
+     * @return the unmodifiable list of the effective information of the given property.
+     */
+    public @NotNull List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        Entry entry = entries.get(propertyKey);
+        return entry != null ? entry.effective : Collections.emptyList();
+    }
+
+    /**
+     * Returns true if the given property has a value declared for any profile, and false otherwise.
+     *
+     * @param propertyKey the property without profile.
+     * @return true if the given property has a value declared for any profile, and false otherwise.
+     */
+    public boolean hasProperty(String propertyKey) {
+        return entries.containsKey(propertyKey);
+    }
+
+    /**
+     * Returns true if a property which starts with the given prefix has a value declared for any profile, and false
+     * otherwise.
+     *
+     * @param prefix the prefix of the properties.
+     * @return true if a property which starts with the given prefix is declared, and false otherwise.
+     */
+    public boolean hasPropertyWithPrefix(String prefix) {
+        String key = entries.ceilingKey(prefix);
+        return key != null && key.startsWith(prefix);
+    }
+
+    /**
+     * The information of a property.
+     */
+    private static class Entry {
+
+        /**
+         * The information which overrides the others for each profile, sorted by property name with profile.
+         */
+        private final List<MicroProfileConfigPropertyInformation> effective;
+
+        Entry(Map<String, List<MicroProfileConfigPropertyInformation>> profiles, Map<String, String> expandedValues) {
+            TreeMap<String /* property key with profile */, MicroProfileConfigPropertyInformation> effective = new TreeMap<>();
+            profiles.forEach((profile, infos) -> {
+                MicroProfileConfigPropertyInformation first = infos.get(0);
+                String resolved = expandedValues.get(first.getPropertyNameWithProfile());
+                effective.put(first.getPropertyNameWithProfile(),
+                        new MicroProfileConfigPropertyInformation(first.getPropertyNameWithProfile(), resolved,
+                                first.getSourceConfigFileURI(), first.getConfigFileName()));
+            });
+            this.effective = Collections.unmodifiableList(new ArrayList<>(effective.values()));
+        }
+    }
+}
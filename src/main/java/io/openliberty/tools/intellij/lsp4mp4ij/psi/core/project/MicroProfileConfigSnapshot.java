@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the configuration of a {@link PsiMicroProfileProject}.
+ *
+ * <p>
+ * The values of the config sources are copied when the snapshot is created, so a snapshot stays consistent when the
+ * config sources are reloaded, and can be read from several threads without locking. The property expressions are
+ * expanded and the property informations are indexed once, when the snapshot is created.
+ * </p>
+ */
+public final class MicroProfileConfigSnapshot {
+
+    private final List<IConfigSource> configSources;
+
+    private final Map<String /* property key with profile */, String> expandedValues;
+
+    private final MicroProfileConfigPropertyIndex propertyIndex;
+
+    private MicroProfileConfigSnapshot(List<IConfigSource> configSources) {
+        this.configSources = Collections.unmodifiableList(new ArrayList<>(configSources));
+        this.expandedValues = expandValues(configSources, createPropertiesProvider(configSources));
+        this.propertyIndex = MicroProfileConfigPropertyIndex.create(configSources, expandedValues);
+    }
+
+    /**
+     * Returns a snapshot of the given config sources.
+     *
+     * @param configSources the config sources, sorted by descending ordinal.
+     * @return a snapshot of the given config sources.
+     */
+    public static MicroProfileConfigSnapshot create(List<IConfigSource> configSources) {
+        return new MicroProfileConfigSnapshot(configSources);
+    }
+
+    /**
+     * Returns the config sources of this snapshot, sorted by descending ordinal.
+     *
+     * @return the config sources of this snapshot.
+     */
+    public List<IConfigSource> getConfigSources() {
+        return configSources;
+    }
+
+    /**
+     * Returns the expanded value of the given property, or null if it is not defined or can't be expanded.
+     *
+     * @param propertyKey the property with the profile included.
+     * @return the expanded value of the given property, or null.
+     */
+    public String getProperty(String propertyKey) {
+        return expandedValues.get(propertyKey);
+    }
+
+    /**
+     * Returns the information of the given property for all profiles, sorted by property name with profile, with the
+     * expanded values.
+     *
+     * @param propertyKey the property without profile.
+     * @return a new list of the information of the given property.
+     */
+    public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        // Callers may add information (ex : the default value of the annotation), so the indexed list is copied
+        return new ArrayList<>(propertyIndex.getPropertyInformations(propertyKey));
+    }
+
+    /**
+     * Returns the property information index of this snapshot.
+     *
+     * @return the property information index of this snapshot.
+     */
+    public MicroProfileConfigPropertyIndex getPropertyIndex() {
+        return propertyIndex;
+    }
+
+    /**
+     * Returns true if the given property has a value declared for any profile, and false otherwise.
+     *
+     * @param propertyKey the property without profile.
+     * @return true if the given property has a value declared for any profile, and false otherwise.
+     */
+    public boolean hasProperty(String propertyKey) {
+        return propertyIndex.hasProperty(propertyKey);
+    }
+
+    private static IConfigSourcePropertiesProvider createPropertiesProvider(List<IConfigSource> configSources) {
+        if (configSources.isEmpty()) {
+            return new ValuesPropertiesProvider(Collections.emptyMap());
+        }
+        IConfigSourcePropertiesProvider provider = new ValuesPropertiesProvider(copyValues(configSources.get(configSources.size() - 1)));
+        for (int i = configSources.size() - 2; i >= 0; i--) {
+            provider = ConfigSourcePropertiesProviderUtils
+                    .layer(new ValuesPropertiesProvider(copyValues(configSources.get(i))), provider);
+        }
+        return provider;
+    }
+
+    private static Map<String, String> copyValues(IConfigSource configSource) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : configSource.getAllKeys()) {
+            values.put(key, configSource.getProperty(key));
+        }
+        return values;
+    }
+
+    private static Map<String, String> expandValues(List<IConfigSource> configSources,
+                                                    IConfigSourcePropertiesProvider provider) {
+        // The keys without text are not keys of the provider, but have a value too
+        Set<String> keys = new HashSet<>();
+        for (IConfigSource configSource : configSources) {
+            keys.addAll(configSource.getAllKeys());
+        }
+        Map<String, String> expandedValues = new HashMap<>();
+        PropertyValueExpander expander = null;
+        for (String key : keys) {
+            String value = provider.getValue(key);
+            if (value != null && value.contains("${")) {
+                if (expander == null) {
+                    expander = new PropertyValueExpander(provider);
+                }
+                value = expander.getValue(key);
+            }
+            if (value != null) {
+                expandedValues.put(key, value);
+            }
+        }
+        return expandedValues;
+    }
+
+    /**
+     * Properties provider of the values copied from a config source.
+     */
+    private static class ValuesPropertiesProvider implements IConfigSourcePropertiesProvider {
+
+        private final Map<String, String> values;
+
+        private final Set<String> keys;
+
+        ValuesPropertiesProvider(Map<String, String> values) {
+            this.values = values;
+            Set<String> keys = new HashSet<>();
+            values.forEach((key, value) -> {
+                if (StringUtils.hasText(value)) {
+                    keys.add(key);
+                }
+            });
+            this.keys = Collections.unmodifiableSet(keys);
+        }
+
+        @Override
+        public Set<String> keys() {
+            return keys;
+        }
+
+        @Override
+        public boolean hasKey(String key) {
+            return keys.contains(key);
+        }
+
+        @Override
+        public String getValue(String key) {
+            return values.get(key);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,9 +58,21 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 
 	@Override
 	protected Properties loadConfig(InputStream input) throws IOException {
-		propertyValueExpander = null;
 		Properties properties = new Properties();
+		// The properties file is encoded in ISO-8859-1
 		properties.load(input);
+		return loadConfig(properties);
+	}
+
+	@Override
+	protected Properties loadConfig(Reader reader) throws IOException {
+		Properties properties = new Properties();
+		properties.load(reader);
+		return loadConfig(properties);
+	}
+
+	private Properties loadConfig(Properties properties) {
+		propertyValueExpander = null;
 		String profile = getProfile();
 		if (profile != null) {
 			// Prefix all properties with profile
@@ -15,14 +15,9 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
-import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * JDT MicroProfile project.
@@ -34,15 +29,46 @@ public class PsiMicroProfileProject {
 
     private final Module javaProject;
 
+    /**
+     * The config sources, sorted by descending ordinal, or null if they must be loaded. Guarded by this.
+     */
     private List<IConfigSource> configSources;
 
-    private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    /**
+     * The snapshot of the config sources, or null if it must be created. It is replaced as a whole when a config
+     * source changes, so that the readers get a consistent view without locking.
+     */
+    private volatile MicroProfileConfigSnapshot snapshot;
 
     public PsiMicroProfileProject(Module javaProject) {
         this.javaProject = javaProject;
     }
 
+    /**
+     * Returns the current snapshot of the configuration of this project.
+     *
+     * @return the current snapshot of the configuration of this project.
+     */
+    public MicroProfileConfigSnapshot getConfigSnapshot() {
+        MicroProfileConfigSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return loadConfigSnapshot();
+    }
+
+    private synchronized MicroProfileConfigSnapshot loadConfigSnapshot() {
+        if (snapshot == null) {
+            // Case when there are several Threads which load the snapshot, the second
+            // Thread should not load it again.
+            if (configSources == null) {
+                configSources = loadConfigSources(javaProject);
+            }
+            snapshot = MicroProfileConfigSnapshot.create(configSources);
+        }
+        return snapshot;
+    }
+
     /**
      * Returns the value of this property or <code>defaultValue</code> if it is not
      * defined in this project.
@@ -59,26 +85,8 @@ public class PsiMicroProfileProject {
      * defined in this project
      */
     public String getProperty(String propertyKey, String defaultValue) {
-
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-        }
-
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
-        if (unresolved == null) {
-            return defaultValue;
-        } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-            }
-            String expandedValue = propertyValueExpander.getValue(propertyKey);
-            if (expandedValue == null) {
-                return defaultValue;
-            }
-            return expandedValue;
-        } else {
-            return unresolved;
-        }
+        String value = getConfigSnapshot().getProperty(propertyKey);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -152,39 +160,11 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        // Use a map to override property values
-        // eg. if application.yaml defines a value for a property it should override the
-        // value defined in application.properties
-        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-        // Go backwards so that application.properties replaces
-        // microprofile-config.properties, etc.
-        List<IConfigSource> configSources = getConfigSources();
-        for (int i = configSources.size() - 1; i >= 0; i--) {
-            IConfigSource configSource = configSources.get(i);
-            List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-                    .getPropertyInformations(propertyKey);
-            if (propertyInformations != null) {
-                for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-                    propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-                }
-            }
-        }
-        return propertyToInfoMap.values().stream() //
-                .sorted((a, b) -> {
-                    return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-                }) //
-                .map(info -> {
-                    String resolved = this.getProperty(info.getPropertyNameWithProfile());
-                    return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-                            info.getSourceConfigFileURI(), info.getConfigFileName());
-                }).collect(Collectors.toList());
+        return getConfigSnapshot().getPropertyInformations(propertyKey);
     }
 
     public List<IConfigSource> getConfigSources() {
-        if (configSources == null) {
-            configSources = loadConfigSources(javaProject);
-        }
-        return configSources;
+        return getConfigSnapshot().getConfigSources();
     }
 
     /**
@@ -192,34 +172,42 @@ public class PsiMicroProfileProject {
      * of properties, yaml file is saved.
      */
     public void evictConfigSourcesCache(VirtualFile file) {
-        final IConfigSource existingConfigSource = findConfigSource(file);
-        if (existingConfigSource != null) {
-            // The config source file exists, update / delete it from the cache
-            boolean updated = ReadAction.compute(() -> {
-                PsiFile psiFile = LSPIJUtils.getPsiFile(file, javaProject.getProject());
+        final IConfigSource existingConfigSource;
+        synchronized (this) {
+            if (configSources == null) {
+                // The config sources are not loaded yet
+                return;
+            }
+            existingConfigSource = findConfigSource(file);
+        }
+        // The read action is not run while holding the lock, since the readers of the snapshot run in read actions
+        boolean updated = existingConfigSource != null && ReadAction.compute(() -> {
+            PsiFile psiFile = LSPIJUtils.getPsiFile(file, javaProject.getProject());
 
-                if (psiFile != null) {
-                    // The config source file has been updated, reload it
-                    existingConfigSource.reload(psiFile);
-                    return true;
-                }
-                // The config source file has been deleted, remove it
-                return false;
-            });
-            if (!updated) {
+            if (psiFile != null) {
+                // The config source file has been updated, reload it
+                existingConfigSource.reload(psiFile);
+                return true;
+            }
+            // The config source file has been deleted, remove it
+            return false;
+        });
+        synchronized (this) {
+            if (existingConfigSource == null) {
+                // The config source file doesn't exist, evict the full cache
+                configSources = null;
+            } else if (!updated && configSources != null) {
                 // Remove from config sources cache, the config source file which has been deleted
-                configSources.remove(existingConfigSource);
+                List<IConfigSource> remainingConfigSources = new ArrayList<>(configSources);
+                remainingConfigSources.remove(existingConfigSource);
+                configSources = remainingConfigSources;
             }
-        } else {
-            // The config source file doesn't exist, evict the full cache
-            configSources = null;
+            // The next reader creates a new snapshot, the current readers keep the previous one
+            snapshot = null;
         }
-        propertyValueExpander = null;
-        aggregatedPropertiesProvider = null;
     }
 
     private IConfigSource findConfigSource(VirtualFile file) {
-        List<IConfigSource> configSources = getConfigSources();
         for (IConfigSource configSource : configSources) {
             if (configSource.isSourceConfigFile(file)) {
                 return configSource;
@@ -235,12 +223,7 @@ public class PsiMicroProfileProject {
      * @param javaProject the Java project
      * @return the loaded config sources.
      */
-    private synchronized List<IConfigSource> loadConfigSources(Module javaProject) {
-        if (configSources != null) {
-            // Case when there are several Threads which load config sources, the second
-            // Thread should not reload the config sources again.
-            return configSources;
-        }
+    private static List<IConfigSource> loadConfigSources(Module javaProject) {
         List<IConfigSource> configSources = new ArrayList<>();
         VirtualFile outputFile = CompilerPaths.getModuleOutputDirectory(javaProject, false);
         for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
@@ -260,45 +243,19 @@ public class PsiMicroProfileProject {
      * false otherwise
      */
     public boolean hasProperty(String property) {
-        List<IConfigSource> configSources = getConfigSources();
-        for (IConfigSource configSource : configSources) {
-            if (configSource.getPropertyInformations(property) != null) {
-                return true;
-            }
-        }
-        return false;
+        return getConfigSnapshot().hasProperty(property);
     }
 
-    private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-        List<IConfigSource> configSources = getConfigSources();
-        if (configSources.size() == 0) {
-            // Return an empty IConfigSourcePropertiesProvider
-            return new IConfigSourcePropertiesProvider() {
-
-                @Override
-                public Set<String> keys() {
-                    return Collections.emptySet();
-                }
-
-                @Override
-                public boolean hasKey(String key) {
-                    return false;
-                }
-
-                @Override
-                public String getValue(String key) {
-                    return null;
-                }
-
-            };
-        }
-        IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
-                configSources.get(configSources.size() - 1));
-        for (int i = configSources.size() - 2; i >= 0; i--) {
-            provider = ConfigSourcePropertiesProviderUtils
-                    .layer(new ConfigSourcePropertiesProvider(configSources.get(i)), provider);
-        }
-        return provider;
+    /**
+     * Returns true if a property which starts with the given prefix has a value
+     * declared for any profile, and false otherwise.
+     *
+     * @param prefix the prefix of the properties (ex : <code>org.acme.MyClient/mp-rest/</code>)
+     * @return true if a property which starts with the given prefix has a value
+     * declared for any profile, and false otherwise
+     */
+    public boolean hasPropertyWithPrefix(String prefix) {
+        return getConfigSnapshot().getPropertyIndex().hasPropertyWithPrefix(prefix);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.module.Module;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * YAML config file implementation, for META-INF/microprofile-config.yaml.
+ *
+ * <p>
+ * The YAML document is read as a stream of parser events and flattened into property keys while it is read, without
+ * building the object graph of the document:
+ * </p>
+ * <ul>
+ * <li>the keys of nested mappings are joined with '.', so a top-level "%dev" mapping gives "%dev." profile
+ * properties,</li>
+ * <li>a sequence of scalars gives a comma separated value (with the commas of the items escaped) and one indexed
+ * property per item, e.g. "key[0]",</li>
+ * <li>the items of a sequence of mappings are indexed, e.g. "key[0].name".</li>
+ * </ul>
+ */
+public class YamlConfigSource extends AbstractConfigSource<Map<String, String>> {
+
+	/**
+	 * Maximum size of a YAML config file, in code points.
+	 */
+	private static final int MAX_CONFIG_FILE_SIZE = 16 * 1024 * 1024;
+
+	public YamlConfigSource(String configFileName, String profile, int ordinal, Module javaProject) {
+		super(configFileName, profile, ordinal, javaProject);
+	}
+
+	public YamlConfigSource(String configFileName, int ordinal, Module javaProject) {
+		super(configFileName, ordinal, javaProject);
+	}
+
+	@Override
+	public String getProperty(String key) {
+		Map<String, String> properties = getConfig();
+		if (properties == null) {
+			return null;
+		}
+		return properties.get(key);
+	}
+
+	@Override
+	protected Map<String, String> loadConfig(InputStream input) throws IOException {
+		try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+			return loadConfig(reader);
+		}
+	}
+
+	@Override
+	protected Map<String, String> loadConfig(Reader reader) throws IOException {
+		return flatten(reader, getProfile());
+	}
+
+	/**
+	 * Returns the properties of the given YAML document.
+	 *
+	 * @param reader  the YAML document.
+	 * @param profile the profile of the config file, or null.
+	 * @return the properties of the given YAML document, in the document order.
+	 * @throws IOException if the document can't be read or is not valid YAML.
+	 */
+	static Map<String, String> flatten(Reader reader, String profile) throws IOException {
+		LoaderOptions loaderOptions = new LoaderOptions();
+		loaderOptions.setCodePointLimit(MAX_CONFIG_FILE_SIZE);
+		Yaml yaml = new Yaml(loaderOptions);
+		Map<String, String> properties = new LinkedHashMap<>();
+		try {
+			PropertiesFlattener flattener = new PropertiesFlattener(properties, profile);
+			for (Event event : yaml.parse(reader)) {
+				flattener.accept(event);
+			}
+		} catch (RuntimeException e) {
+			// SnakeYAML reports the syntax errors with unchecked exceptions
+			throw new IOException(e.getMessage(), e);
+		}
+		return properties;
+	}
+
+	@Override
+	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations() {
+		Map<String, String> config = super.getConfig();
+		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new HashMap<>();
+		config.forEach((propertyKeyWithProfile, propertyValue) -> {
+			String propertyKey = MicroProfileConfigPropertyInformation
+					.getPropertyNameWithoutProfile(propertyKeyWithProfile);
+			propertiesMap.computeIfAbsent(propertyKey, k -> new ArrayList<>())
+					.add(new MicroProfileConfigPropertyInformation(propertyKeyWithProfile, propertyValue,
+							getSourceConfigFileURI(), getConfigFileName()));
+		});
+		return propertiesMap;
+	}
+
+	@Override
+	public Set<String> getAllKeys() {
+		Map<String, String> properties = getConfig();
+		if (properties == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(properties.keySet());
+	}
+
+	/**
+	 * Flattens the parser events of a YAML document into properties.
+	 */
+	private static class PropertiesFlattener {
+
+		private final Map<String, String> properties;
+
+		private final String profile;
+
+		private final Deque<Node> path = new ArrayDeque<>();
+
+		private final Map<String /* anchor */, String> scalarAnchors = new HashMap<>();
+
+		PropertiesFlattener(Map<String, String> properties, String profile) {
+			this.properties = properties;
+			this.profile = profile;
+		}
+
+		void accept(Event event) {
+			switch (event.getEventId()) {
+				case MappingStart -> path.push(new Node(childCollectionPath(), true));
+				case SequenceStart -> path.push(new Node(childCollectionPath(), false));
+				case MappingEnd -> path.pop();
+				case SequenceEnd -> {
+					Node sequence = path.pop();
+					if (sequence.scalarItems != null) {
+						addProperty(sequence.path, sequence.scalarItems.toString());
+					}
+				}
+				case Scalar -> {
+					ScalarEvent scalar = (ScalarEvent) event;
+					String value = isNull(scalar) ? "" : scalar.getValue();
+					if (scalar.getAnchor() != null) {
+						scalarAnchors.put(scalar.getAnchor(), value);
+					}
+					acceptScalar(value);
+				}
+				case Alias -> {
+					// Only the aliases of scalars are supported, since the document is not kept in memory
+					String value = scalarAnchors.get(((AliasEvent) event).getAnchor());
+					if (value != null) {
+						acceptScalar(value);
+					} else {
+						childPath();
+					}
+				}
+				default -> {
+					// Stream and document events
+				}
+			}
+		}
+
+		private void acceptScalar(String value) {
+			Node parent = path.peek();
+			if (parent == null) {
+				// The document is a single scalar
+				return;
+			}
+			if (parent.mapping && parent.key == null) {
+				parent.key = value;
+				return;
+			}
+			String key = childPath();
+			addProperty(key, value);
+			if (!parent.mapping && parent.scalarItems != null) {
+				if (!parent.scalarItems.isEmpty()) {
+					parent.scalarItems.append(',');
+				}
+				parent.scalarItems.append(value.replace(",", "\\,"));
+			}
+		}
+
+		private String childCollectionPath() {
+			Node parent = path.peek();
+			if (parent != null && !parent.mapping) {
+				// A sequence of mappings or sequences has no comma separated value
+				parent.scalarItems = null;
+			}
+			return childPath();
+		}
+
+		/**
+		 * Returns the path of the next child of the current node, and consumes its key or index.
+		 */
+		private String childPath() {
+			Node parent = path.peek();
+			if (parent == null) {
+				return null;
+			}
+			if (parent.mapping) {
+				String key = parent.key != null ? parent.key : "";
+				parent.key = null;
+				return parent.path == null ? key : parent.path + "." + key;
+			}
+			return parent.path == null ? null : parent.path + "[" + parent.index++ + "]";
+		}
+
+		private void addProperty(String key, String value) {
+			if (key == null || key.isEmpty()) {
+				return;
+			}
+			if (profile != null) {
+				// Ignore any properties with a profile, since they are not valid in a profile config file
+				if (key.startsWith("%")) {
+					return;
+				}
+				key = "%" + profile + "." + key;
+			}
+			properties.putIfAbsent(key, value);
+		}
+
+		private static boolean isNull(ScalarEvent scalar) {
+			if (scalar.getScalarStyle() != DumperOptions.ScalarStyle.PLAIN) {
+				return false;
+			}
+			String value = scalar.getValue();
+			return value.isEmpty() || "~".equals(value) || "null".equals(value) || "Null".equals(value)
+					|| "NULL".equals(value);
+		}
+	}
+
+	/**
+	 * A mapping or a sequence of the YAML document being flattened.
+	 */
+	private static class Node {
+
+		private final String path;
+
+		private final boolean mapping;
+
+		/**
+		 * The current key of a mapping, or null if the next scalar of the mapping is a key.
+		 */
+		private String key;
+
+		/**
+		 * The next index of a sequence.
+		 */
+		private int index;
+
+		/**
+		 * The comma separated items of a sequence, or null if the sequence contains mappings or sequences.
+		 */
+		private StringBuilder scalarItems;
+
+		Node(String path, boolean mapping) {
+			this.path = path;
+			this.mapping = mapping;
+			if (!mapping) {
+				scalarItems = new StringBuilder();
+			}
+		}
+	}
+}
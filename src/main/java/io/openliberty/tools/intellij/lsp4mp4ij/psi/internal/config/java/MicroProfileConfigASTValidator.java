@@ -30,6 +30,8 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4mp.commons.utils.AntPathMatcher;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -83,6 +85,11 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
     }
 
+    @Override
+    public Collection<String> getAnnotationNames() {
+        return Collections.singleton(CONFIG_PROPERTY_ANNOTATION);
+    }
+
     private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
         return context.getSettings().getPatterns();
     }
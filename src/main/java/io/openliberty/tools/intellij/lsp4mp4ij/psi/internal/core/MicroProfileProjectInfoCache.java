@@ -0,0 +1,496 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.util.messages.MessageBusConnection;
+import io.openliberty.tools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import io.openliberty.tools.intellij.util.LibertyToolPluginDisposable;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Per-module cache of the {@link MicroProfileProjectInfo} computed by
+ * {@link io.openliberty.tools.intellij.lsp4mp4ij.psi.core.PropertiesManager}.
+ *
+ * <p>
+ * Entries are keyed by module, {@link ClasspathKind}, {@link DocumentFormat} and properties scopes. They are
+ * evicted when {@link ClasspathResourceChangedManager} reports that a library has changed or when the module roots
+ * change, and they are persisted under the IDE system directory so that the first request after a restart is warm.
+ * A persisted entry is only reused if the fingerprint of the module classpath it was computed with is unchanged, and
+ * if it has been computed with the same source files, which may have been changed while the IDE was closed. The
+ * classpath fingerprint of a module is computed once until its roots change, and the source files are only
+ * fingerprinted when an entry is saved or loaded.
+ * </p>
+ *
+ * <p>
+ * When a Java source file changes, the entries of its module and of the modules which depend on it are not evicted
+ * but collect the changed file, so that only the contribution of the changed files must be recomputed.
+ * </p>
+ */
+public final class MicroProfileProjectInfoCache implements ClasspathResourceChangedManager.Listener, ModuleListener,
+        ModuleRootListener, Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MicroProfileProjectInfoCache.class);
+
+    private static final String CACHE_DIR_NAME = "liberty-tools/mp-project-info";
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Classpath fingerprints by module name, cleared when the roots or the libraries change.
+     */
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on each eviction, used to avoid caching a result computed before an invalidation.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    private final Gson gson;
+
+    public static MicroProfileProjectInfoCache getInstance(@NotNull Project project) {
+        return project.getService(MicroProfileProjectInfoCache.class);
+    }
+
+    public MicroProfileProjectInfoCache(Project project) {
+        this.project = project;
+        this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+        connection = project.getMessageBus().connect(LibertyToolPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+        connection.subscribe(ModuleListener.TOPIC, this);
+        connection.subscribe(ModuleRootListener.TOPIC, this);
+    }
+
+    /**
+     * Returns the modification count which must be given to {@link #put} once the project info is computed.
+     *
+     * @return the current modification count.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Returns the cached entry for the given module and null otherwise. This method must be called in a read action.
+     *
+     * @param module         the module.
+     * @param scopes         the properties scopes.
+     * @param classpathKind  the classpath kind.
+     * @param documentFormat the document format.
+     * @return the cached entry for the given module and null otherwise.
+     */
+    public @Nullable Entry get(@NotNull Module module, List<MicroProfilePropertiesScope> scopes,
+                                                 ClasspathKind classpathKind, DocumentFormat documentFormat) {
+        Key key = new Key(module.getName(), classpathKind, documentFormat, scopes);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            // The changes of the source files are collected by the entry
+            return entry;
+        }
+        // Try to load the project info stored by a previous IDE session
+        entry = load(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!getFingerprint(module).equals(entry.fingerprint)
+                || !computeSourcesFingerprint(module).equals(entry.sourcesFingerprint)) {
+            delete(key);
+            return null;
+        }
+        Entry existing = entries.putIfAbsent(key, entry);
+        return existing != null ? existing : entry;
+    }
+
+    /**
+     * Stores the given project info. This method must be called in a read action.
+     *
+     * @param module            the module.
+     * @param scopes            the properties scopes.
+     * @param classpathKind     the classpath kind.
+     * @param documentFormat    the document format.
+     * @param info              the computed project info.
+     * @param fileTypes         the types declared by each Java source file (URL) which has contributed properties.
+     * @param modificationCount the modification count returned by {@link #getModificationCount()} before the computation.
+     */
+    public void put(@NotNull Module module, List<MicroProfilePropertiesScope> scopes, ClasspathKind classpathKind,
+                    DocumentFormat documentFormat, @NotNull MicroProfileProjectInfo info,
+                    @NotNull Map<String, Set<String>> fileTypes, long modificationCount) {
+        if (modificationCount != this.modificationCount.get()) {
+            // A Java file or a library has changed during the computation, the project info is perhaps obsolete.
+            return;
+        }
+        Key key = new Key(module.getName(), classpathKind, documentFormat, scopes);
+        Entry entry = new Entry(getFingerprint(module), null, info, fileTypes);
+        entries.put(key, entry);
+        if (!ApplicationManager.getApplication().isUnitTestMode()) {
+            ApplicationManager.getApplication().executeOnPooledThread(() -> save(module, key, entry));
+        }
+    }
+
+    @Override
+    public void librariesChanged() {
+        evictAll();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        Map<String, Set<VirtualFile>> changedFilesByModule = new HashMap<>();
+        for (var pair : sources) {
+            VirtualFile file = pair.getFirst();
+            Module module = pair.getSecond();
+            if (PsiMicroProfileProjectManager.isJavaFile(file) && !module.isDisposed()) {
+                changedFilesByModule.computeIfAbsent(module.getName(), k -> new HashSet<>()).add(file);
+                // Modules which depend on the changed module see its classes with the 'dependencies' scope
+                for (Module dependent : ModuleUtilCore.getAllDependentModules(module)) {
+                    changedFilesByModule.computeIfAbsent(dependent.getName(), k -> new HashSet<>()).add(file);
+                }
+            }
+        }
+        if (changedFilesByModule.isEmpty()) {
+            return;
+        }
+        modificationCount.incrementAndGet();
+        entries.forEach((key, entry) -> {
+            Set<VirtualFile> changedFiles = changedFilesByModule.get(key.moduleName);
+            if (changedFiles != null) {
+                entry.changedFiles.addAll(changedFiles);
+            }
+        });
+        // The persisted entries of the modules are obsolete, they will be saved again once updated
+        deleteIf(key -> changedFilesByModule.containsKey(key.moduleName));
+    }
+
+    @Override
+    public void rootsChanged(@NotNull ModuleRootEvent event) {
+        // The persisted entries are kept, as they are only reused if the fingerprints of the roots are unchanged
+        modificationCount.incrementAndGet();
+        entries.clear();
+        fingerprints.clear();
+    }
+
+    @Override
+    public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
+        String moduleName = module.getName();
+        evict(key -> key.moduleName.equals(moduleName));
+        fingerprints.remove(moduleName);
+    }
+
+    private void evictAll() {
+        modificationCount.incrementAndGet();
+        entries.clear();
+        fingerprints.clear();
+        deleteAll();
+    }
+
+    private void evict(Predicate<Key> filter) {
+        modificationCount.incrementAndGet();
+        Set<Key> keys = entries.keySet().stream().filter(filter).collect(Collectors.toSet());
+        keys.forEach(entries::remove);
+        // Persisted entries which have not been loaded yet must be deleted too
+        deleteIf(filter);
+    }
+
+    private void deleteIf(Predicate<Key> filter) {
+        Path dir = getCacheDir();
+        if (Files.isDirectory(dir)) {
+            try (var files = Files.list(dir)) {
+                files.filter(file -> {
+                    String moduleName = Key.getModuleName(file.getFileName().toString());
+                    return moduleName != null && filter.test(new Key(moduleName, null, null, null));
+                }).forEach(file -> delete(file));
+            } catch (IOException e) {
+                LOGGER.warn("Cannot evict MicroProfile project info cache in '" + dir + "'", e);
+            }
+        }
+    }
+
+    private String getFingerprint(Module module) {
+        return fingerprints.computeIfAbsent(module.getName(), moduleName -> computeFingerprint(module));
+    }
+
+    private static String computeFingerprint(Module module) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().getClassesRoots()) {
+            fingerprint.append(root.getUrl()).append('@').append(root.getTimeStamp()).append(';');
+        }
+        return Integer.toHexString(fingerprint.toString().hashCode()) + "-" + fingerprint.length();
+    }
+
+    /**
+     * Returns the fingerprint of the Java files and the config sources of the given module and of its module
+     * dependencies. The time stamp of a directory doesn't change when a file of the directory changes, so the time
+     * stamp and the length of each file are used.
+     */
+    private static String computeSourcesFingerprint(Module module) {
+        SourcesFingerprintVisitor visitor = new SourcesFingerprintVisitor();
+        for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().withoutSdk().withoutLibraries()
+                .getSourceRoots()) {
+            VfsUtilCore.visitChildrenRecursively(root, visitor);
+        }
+        return Long.toHexString(visitor.hash) + "-" + visitor.count;
+    }
+
+    private static class SourcesFingerprintVisitor extends VirtualFileVisitor<Void> {
+
+        private long hash;
+        private int count;
+
+        @Override
+        public boolean visitFile(@NotNull VirtualFile file) {
+            if (!file.isDirectory()
+                    && (PsiMicroProfileProjectManager.isJavaFile(file) || PsiMicroProfileProjectManager.isConfigSource(file))) {
+                // The order of the visited files is not specified, so the hashes of the files are summed
+                long fileHash = file.getUrl().hashCode();
+                fileHash = fileHash * 31 + file.getTimeStamp();
+                fileHash = fileHash * 31 + file.getLength();
+                hash += fileHash * 0x9E3779B97F4A7C15L;
+                count++;
+            }
+            return true;
+        }
+    }
+
+    // --------------- Persistence
+
+    private Path getCacheDir() {
+        return PathManager.getSystemDir().resolve(CACHE_DIR_NAME).resolve(project.getLocationHash());
+    }
+
+    private @Nullable Entry load(Key key) {
+        Path file = getCacheDir().resolve(key.toFileName());
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Entry entry = gson.fromJson(reader, Entry.class);
+            return entry != null && entry.info != null && entry.fileTypes != null
+                    ? new Entry(entry.fingerprint, entry.sourcesFingerprint, entry.info, entry.fileTypes) : null;
+        } catch (Exception e) {
+            LOGGER.warn("Cannot load MicroProfile project info cache from '" + file + "'", e);
+            delete(file);
+            return null;
+        }
+    }
+
+    private void save(Module module, Key key, Entry entry) {
+        String sourcesFingerprint = ApplicationManager.getApplication().runReadAction((Computable<String>) () ->
+                module.isDisposed() ? null : computeSourcesFingerprint(module));
+        if (sourcesFingerprint == null || !isUpToDate(key, entry)) {
+            return;
+        }
+        Path dir = getCacheDir();
+        Path file = dir.resolve(key.toFileName());
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, key.toFileName(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                gson.toJson(new Entry(entry.fingerprint, sourcesFingerprint, entry.info, entry.fileTypes), writer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            LOGGER.warn("Cannot save MicroProfile project info cache to '" + file + "'", e);
+            return;
+        }
+        if (!isUpToDate(key, entry)) {
+            // A source file has changed while the entry was saved, the saved source files are perhaps not the ones
+            // the project info has been computed with
+            delete(file);
+        }
+    }
+
+    /**
+     * Returns true if the given entry has not been evicted and if no source file has changed since it was computed.
+     */
+    private boolean isUpToDate(Key key, Entry entry) {
+        return entries.get(key) == entry && entry.changedFiles.isEmpty();
+    }
+
+    private void delete(Key key) {
+        delete(getCacheDir().resolve(key.toFileName()));
+    }
+
+    private void deleteAll() {
+        Path dir = getCacheDir();
+        if (Files.isDirectory(dir)) {
+            try (var files = Files.list(dir)) {
+                files.forEach(MicroProfileProjectInfoCache::delete);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot clear MicroProfile project info cache in '" + dir + "'", e);
+            }
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete MicroProfile project info cache file '" + file + "'", e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        connection.disconnect();
+        entries.clear();
+    }
+
+    /**
+     * Cached project info.
+     */
+    public static final class Entry {
+
+        private final String fingerprint;
+
+        private final String sourcesFingerprint;
+
+        private final MicroProfileProjectInfo info;
+
+        private final Map<String, Set<String>> fileTypes;
+
+        private final transient Set<VirtualFile> changedFiles;
+
+        Entry(String fingerprint, String sourcesFingerprint, MicroProfileProjectInfo info,
+              Map<String, Set<String>> fileTypes) {
+            this.fingerprint = fingerprint;
+            this.sourcesFingerprint = sourcesFingerprint;
+            this.info = info;
+            this.fileTypes = fileTypes;
+            this.changedFiles = ConcurrentHashMap.newKeySet();
+        }
+
+        /**
+         * Returns the project info which must not be modified.
+         *
+         * @return the project info which must not be modified.
+         */
+        public MicroProfileProjectInfo getInfo() {
+            return info;
+        }
+
+        /**
+         * Returns the types declared by each Java source file (URL) which has contributed properties.
+         *
+         * @return the types declared by each Java source file (URL) which has contributed properties.
+         */
+        public Map<String, Set<String>> getFileTypes() {
+            return fileTypes;
+        }
+
+        /**
+         * Returns the Java files which have changed since the project info has been computed.
+         *
+         * @return the Java files which have changed since the project info has been computed.
+         */
+        public Set<VirtualFile> getChangedFiles() {
+            return new HashSet<>(changedFiles);
+        }
+    }
+
+    private static class Key {
+
+        private static final char SEPARATOR = '#';
+
+        private final String moduleName;
+        private final ClasspathKind classpathKind;
+        private final DocumentFormat documentFormat;
+        private final List<MicroProfilePropertiesScope> scopes;
+
+        Key(String moduleName, ClasspathKind classpathKind, DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes) {
+            this.moduleName = moduleName;
+            this.classpathKind = classpathKind;
+            this.documentFormat = documentFormat;
+            this.scopes = scopes;
+        }
+
+        String toFileName() {
+            String scopesName = scopes.stream().map(MicroProfilePropertiesScope::name).collect(Collectors.joining("+"));
+            return encode(moduleName) + SEPARATOR + classpathKind + SEPARATOR + documentFormat + SEPARATOR + scopesName + ".json";
+        }
+
+        static @Nullable String getModuleName(String fileName) {
+            int index = fileName.indexOf(SEPARATOR);
+            return index > 0 ? decode(fileName.substring(0, index)) : null;
+        }
+
+        private static String encode(String moduleName) {
+            return URLEncoder.encode(moduleName, StandardCharsets.UTF_8);
+        }
+
+        private static String decode(String moduleName) {
+            return URLDecoder.decode(moduleName, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return moduleName.equals(key.moduleName) && classpathKind == key.classpathKind
+                    && documentFormat == key.documentFormat && Objects.equals(scopes, key.scopes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(moduleName, classpathKind, documentFormat, scopes);
+        }
+    }
+}
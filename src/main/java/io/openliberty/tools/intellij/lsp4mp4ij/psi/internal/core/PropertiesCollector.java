@@ -13,11 +13,16 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
@@ -29,6 +34,12 @@ import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 /**
  * Properties collector implementation.
  *
+ * <p>
+ * Properties are indexed by name to merge metadata without scanning the
+ * collected properties. Properties replaced during a merge are removed from
+ * the properties list in one pass at the end of the merge.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -38,6 +49,17 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	/**
+	 * Collected properties by name, in the order of the properties list.
+	 */
+	private final Map<String, Deque<ItemMetadata>> propertiesCache;
+
+	/**
+	 * Properties replaced during the current merge which must be removed from the
+	 * properties list.
+	 */
+	private final Set<ItemMetadata> replacedProperties;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,6 +67,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesCache = new HashMap<>();
+		this.replacedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
@@ -70,7 +94,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -97,8 +121,9 @@ public class PropertiesCollector implements IPropertiesCollector {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
 			for (ItemMetadata property: properties) {
-				merge(property, mergingStrategy);
+				mergeProperty(property, mergingStrategy);
 			}
+			removeReplacedProperties();
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -108,7 +133,47 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
+	/**
+	 * Appends the properties and hints collected by a properties provider with a
+	 * dedicated collector, as if the provider had used this collector.
+	 *
+	 * <p>
+	 * A hint collected by several providers (ex : an enum hint) is filled by each
+	 * provider, so the values of a hint which already exists are added only if no
+	 * value with the same name exists.
+	 * </p>
+	 *
+	 * @param metadata the properties and hints collected by a properties provider.
+	 */
+	public void collect(ConfigurationMetadata metadata) {
+		List<ItemMetadata> properties = metadata.getProperties();
+		if (properties != null) {
+			for (ItemMetadata property : properties) {
+				addProperty(property);
+			}
+		}
+		List<ItemHint> hints = metadata.getHints();
+		if (hints != null) {
+			for (ItemHint itemHint : hints) {
+				ItemHint existingItemHint = getExistingItemHint(itemHint.getName());
+				if (existingItemHint == null) {
+					addItemHint(itemHint);
+				} else {
+					merge(itemHint.getValues(), existingItemHint, MergingStrategy.IGNORE_IF_EXISTS);
+					if (Boolean.TRUE.equals(itemHint.getSource())) {
+						existingItemHint.setSource(Boolean.TRUE);
+					}
+				}
+			}
+		}
+	}
+
 	public void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+		mergeProperty(property, mergingStrategy);
+		removeReplacedProperties();
+	}
+
+	private void mergeProperty(ItemMetadata property, MergingStrategy mergingStrategy) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -128,30 +193,36 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (getExistingProperty(property) != null) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		Optional<ItemMetadata> configProperty = configProperties.stream()
-				.filter(cp -> cp.getName().equals(property.getName())).findFirst();
-		return configProperty;
+	private ItemMetadata getExistingProperty(ItemMetadata property) {
+		Deque<ItemMetadata> properties = propertiesCache.get(property.getName());
+		return properties != null ? properties.peekFirst() : null;
 	}
 
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		Deque<ItemMetadata> properties = propertiesCache.get(property.getName());
+		if (properties != null && !properties.isEmpty()) {
+			replacedProperties.add(properties.pollFirst());
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		propertiesCache.computeIfAbsent(property.getName(), k -> new ArrayDeque<>()).addLast(property);
+	}
+
+	private void removeReplacedProperties() {
+		if (replacedProperties.isEmpty()) {
+			return;
+		}
+		configuration.getProperties().removeIf(replacedProperties::contains);
+		replacedProperties.clear();
 	}
 
 	// --------------- ItemHint merge
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.AbstractStaticPropertiesProvider;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry which hosts the {@link IPropertiesProvider} contributed with the "open-liberty.intellij.propertiesProvider"
+ * extension point and the static properties providers contributed with the "open-liberty.intellij.staticPropertyProvider"
+ * extension point.
+ *
+ * <p>
+ * The providers list is built once and rebuilt only when one of these extension points changes (ex: when a plugin
+ * is loaded or unloaded).
+ * </p>
+ */
+public final class PropertiesProviderRegistry implements Disposable {
+
+    private volatile Providers providers;
+
+    public static PropertiesProviderRegistry getInstance() {
+        return ApplicationManager.getApplication().getService(PropertiesProviderRegistry.class);
+    }
+
+    public PropertiesProviderRegistry() {
+        IPropertiesProvider.EP_NAME.addChangeListener(this::reset, this);
+        StaticPropertyProviderExtensionPointBean.EP_NAME.addChangeListener(this::reset, this);
+    }
+
+    /**
+     * Returns the properties providers which search the properties in the Java types.
+     *
+     * @return the properties providers which search the properties in the Java types.
+     */
+    public @NotNull List<IPropertiesProvider> getSearchProviders() {
+        return getOrLoadProviders().search;
+    }
+
+    /**
+     * Returns the static properties providers.
+     *
+     * @return the static properties providers.
+     */
+    public @NotNull List<IPropertiesProvider> getStaticProviders() {
+        return getOrLoadProviders().statics;
+    }
+
+    private Providers getOrLoadProviders() {
+        Providers current = providers;
+        if (current == null) {
+            synchronized (this) {
+                current = providers;
+                if (current == null) {
+                    current = loadProviders();
+                    providers = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Providers loadProviders() {
+        List<IPropertiesProvider> search = new ArrayList<>();
+        List<IPropertiesProvider> statics = new ArrayList<>();
+        for (IPropertiesProvider provider : IPropertiesProvider.EP_NAME.getExtensionList()) {
+            if (provider instanceof AbstractStaticPropertiesProvider) {
+                statics.add(provider);
+            } else {
+                search.add(provider);
+            }
+        }
+        for (StaticPropertyProviderExtensionPointBean bean : StaticPropertyProviderExtensionPointBean.EP_NAME.getExtensionList()) {
+            statics.add(bean.getInstance());
+        }
+        return new Providers(Collections.unmodifiableList(search), Collections.unmodifiableList(statics));
+    }
+
+    private synchronized void reset() {
+        providers = null;
+    }
+
+    @Override
+    public void dispose() {
+        providers = null;
+    }
+
+    private static class Providers {
+
+        private final List<IPropertiesProvider> search;
+
+        private final List<IPropertiesProvider> statics;
+
+        Providers(List<IPropertiesProvider> search, List<IPropertiesProvider> statics) {
+            this.search = search;
+            this.statics = statics;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project cache of the classes resolved from a fully qualified name in a search scope.
+ *
+ * <p>
+ * The diagnostics collectors resolve the same few annotation and super types for every class, field and method of a
+ * file. The resolved classes, and the names which can't be resolved, are cached until the next PSI modification or
+ * project roots change.
+ * </p>
+ */
+public final class PsiClassResolutionCache {
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final Project project;
+
+    private final CachedValue<Map<GlobalSearchScope, Map<String, Object>>> classes;
+
+    public static PsiClassResolutionCache getInstance(@NotNull Project project) {
+        return project.getService(PsiClassResolutionCache.class);
+    }
+
+    public PsiClassResolutionCache(Project project) {
+        this.project = project;
+        this.classes = CachedValuesManager.getManager(project).createCachedValue(() ->
+                CachedValueProvider.Result.create(new ConcurrentHashMap<>(), PsiModificationTracker.getInstance(project),
+                        ProjectRootManager.getInstance(project)), false);
+    }
+
+    /**
+     * Returns the class with the given fully qualified name in the whole project and null otherwise. This method
+     * must be called in a read action.
+     *
+     * @param className the fully qualified name of the class.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    public @Nullable PsiClass findClass(@NotNull String className) {
+        return findClass(className, GlobalSearchScope.allScope(project));
+    }
+
+    /**
+     * Returns the class with the given fully qualified name in the given scope and null otherwise. This method must
+     * be called in a read action.
+     *
+     * @param className the fully qualified name of the class, inner classes can be separated with '$'.
+     * @param scope     the search scope.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    public @Nullable PsiClass findClass(@NotNull String className, @NotNull GlobalSearchScope scope) {
+        Map<String, Object> scopeClasses = classes.getValue().computeIfAbsent(scope, s -> new ConcurrentHashMap<>());
+        Object psiClass = scopeClasses.get(className);
+        if (psiClass == null) {
+            // Resolved outside computeIfAbsent to not lock the map during the index lookup
+            psiClass = ClassUtil.findPsiClass(PsiManager.getInstance(project), className, null, false, scope);
+            if (psiClass == null) {
+                psiClass = NOT_FOUND;
+            }
+            scopeClasses.putIfAbsent(className, psiClass);
+        }
+        return psiClass != NOT_FOUND ? (PsiClass) psiClass : null;
+    }
+}
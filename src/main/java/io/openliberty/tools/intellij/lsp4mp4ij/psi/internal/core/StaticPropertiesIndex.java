@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared, read-only view of the static properties bundled with the plugin.
+ *
+ * <p>
+ * The JSON files from <code>/static-properties</code> are compiled at build time by the
+ * <code>compileStaticProperties</code> Gradle task into a single binary index:
+ * </p>
+ *
+ * <pre>
+ * int magic, int version, int fileCount
+ * fileCount * (UTF path, int propertyCount (-1 if null), propertyCount * property,
+ *              int hintCount (-1 if null), hintCount * hint)
+ * property: string name, type, description, sourceType, sourceField, sourceMethod, defaultValue, extensionName,
+ *           boolean required, (boolean present, int) phase, boolean source
+ * hint:     string name, sourceType, int valueCount (-1 if null), valueCount * (string value, description, sourceType)
+ * string:   boolean present, UTF value
+ * boolean:  byte 0 if absent, 1 if false, 2 if true
+ * </pre>
+ *
+ * <p>
+ * The metadata returned by {@link #getMetadata(String)} is shared by all static properties providers, its lists
+ * must not be modified.
+ * </p>
+ */
+public final class StaticPropertiesIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaticPropertiesIndex.class);
+
+    private static final String INDEX_PATH = "/static-properties/static-properties.idx";
+
+    private static final int MAGIC = 0x4D505349;
+
+    private static final int VERSION = 1;
+
+    private static final class Holder {
+        private static final Map<String, ConfigurationMetadata> METADATA = load();
+    }
+
+    private StaticPropertiesIndex() {
+    }
+
+    /**
+     * Returns the metadata of the static properties JSON file located at the given path and null if the file
+     * is not bundled in the index.
+     *
+     * @param path the path of the static properties JSON file (ex: /static-properties/mp-jwt-metadata.json).
+     * @return the metadata of the static properties JSON file located at the given path and null if the file
+     * is not bundled in the index.
+     */
+    public static @Nullable ConfigurationMetadata getMetadata(String path) {
+        return path != null ? Holder.METADATA.get(path) : null;
+    }
+
+    private static Map<String, ConfigurationMetadata> load() {
+        InputStream stream = StaticPropertiesIndex.class.getResourceAsStream(INDEX_PATH);
+        if (stream == null) {
+            LOGGER.warn("Static properties index '" + INDEX_PATH + "' not found, static properties are read from JSON files.");
+            return Collections.emptyMap();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOGGER.warn("Unsupported static properties index '" + INDEX_PATH + "', static properties are read from JSON files.");
+                return Collections.emptyMap();
+            }
+            int fileCount = in.readInt();
+            Map<String, ConfigurationMetadata> metadata = new HashMap<>(fileCount * 2);
+            for (int i = 0; i < fileCount; i++) {
+                String path = in.readUTF();
+                metadata.put(path, readMetadata(in));
+            }
+            return Collections.unmodifiableMap(metadata);
+        } catch (IOException e) {
+            LOGGER.warn("Error while reading static properties index '" + INDEX_PATH + "'", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private static ConfigurationMetadata readMetadata(DataInputStream in) throws IOException {
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        int propertyCount = in.readInt();
+        if (propertyCount >= 0) {
+            List<ItemMetadata> properties = new ArrayList<>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                properties.add(readProperty(in));
+            }
+            metadata.setProperties(Collections.unmodifiableList(properties));
+        }
+        int hintCount = in.readInt();
+        if (hintCount >= 0) {
+            List<ItemHint> hints = new ArrayList<>(hintCount);
+            for (int i = 0; i < hintCount; i++) {
+                hints.add(readHint(in));
+            }
+            metadata.setHints(Collections.unmodifiableList(hints));
+        }
+        return metadata;
+    }
+
+    private static ItemMetadata readProperty(DataInputStream in) throws IOException {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(readString(in));
+        property.setType(readString(in));
+        property.setDescription(readString(in));
+        property.setSourceType(readString(in));
+        property.setSourceField(readString(in));
+        property.setSourceMethod(readString(in));
+        property.setDefaultValue(readString(in));
+        property.setExtensionName(readString(in));
+        Boolean required = readBoolean(in);
+        if (required != null) {
+            property.setRequired(required);
+        }
+        if (in.readBoolean()) {
+            property.setPhase(in.readInt());
+        }
+        Boolean source = readBoolean(in);
+        if (source != null) {
+            property.setSource(source);
+        }
+        return property;
+    }
+
+    private static ItemHint readHint(DataInputStream in) throws IOException {
+        ItemHint hint = new ItemHint();
+        hint.setName(readString(in));
+        hint.setSourceType(readString(in));
+        int valueCount = in.readInt();
+        if (valueCount >= 0) {
+            List<ValueHint> values = new ArrayList<>(valueCount);
+            for (int i = 0; i < valueCount; i++) {
+                ValueHint value = new ValueHint();
+                value.setValue(readString(in));
+                value.setDescription(readString(in));
+                value.setSourceType(readString(in));
+                values.add(value);
+            }
+            hint.setValues(Collections.unmodifiableList(values));
+        }
+        return hint;
+    }
+
+    private static @Nullable String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static @Nullable Boolean readBoolean(DataInputStream in) throws IOException {
+        byte value = in.readByte();
+        return value == 0 ? null : value == 2;
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.symbols;
+
+import org.eclipse.lsp4j.SymbolKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A MicroProfile or Jakarta entry point stored in the {@link MicroProfileEntryPointIndex}.
+ *
+ * @param name        the symbol name, or the HTTP method for a JAX-RS endpoint.
+ * @param urlTemplate the URL template of a JAX-RS endpoint, relative to the application path, and null otherwise.
+ * @param kind        the symbol kind.
+ * @param offset      the offset of the name identifier of the Java element in the file.
+ * @param length      the length of the name identifier of the Java element.
+ */
+public record MicroProfileEntryPoint(@NotNull String name, @Nullable String urlTemplate, @NotNull SymbolKind kind,
+                                     int offset, int length) {
+}
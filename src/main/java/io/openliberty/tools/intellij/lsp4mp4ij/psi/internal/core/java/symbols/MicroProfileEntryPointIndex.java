@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.symbols;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils;
+import org.eclipse.lsp4j.SymbolKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.HTTP_METHOD_ANNOTATIONS;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_PATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_PATH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants.HEALTH_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants.LIVENESS_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants.READINESS_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.health.MicroProfileHealthConstants.STARTUP_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.reactivemessaging.MicroProfileReactiveMessagingConstants.INCOMING_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.reactivemessaging.MicroProfileReactiveMessagingConstants.OUTGOING_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REGISTER_REST_CLIENT_ANNOTATION;
+
+/**
+ * File based index of the MicroProfile and Jakarta entry points of the Java files: JAX-RS endpoints, REST client
+ * interfaces, health checks and reactive messaging channels, plus the JAX-RS application paths.
+ *
+ * <p>
+ * The index is computed from the content of each Java file only. The annotations are matched with the imports of the
+ * file, without resolving any reference, so that the index stays valid until the file itself changes.
+ * </p>
+ */
+public final class MicroProfileEntryPointIndex extends FileBasedIndexExtension<String, List<MicroProfileEntryPoint>> {
+
+    public static final ID<String, List<MicroProfileEntryPoint>> NAME = ID.create("open-liberty.microprofile.entryPoints");
+
+    /**
+     * The key of the entry points which are reported as workspace symbols.
+     */
+    public static final String SYMBOLS_KEY = "symbols";
+
+    /**
+     * The key of the values of the JAX-RS @ApplicationPath annotations.
+     */
+    public static final String APPLICATION_PATH_KEY = "applicationPath";
+
+    private static final String VALUE = "value";
+
+    private static final String[] HEALTH_ANNOTATIONS = {LIVENESS_ANNOTATION, READINESS_ANNOTATION, STARTUP_ANNOTATION,
+            HEALTH_ANNOTATION};
+
+    private static final String[] CHANNEL_ANNOTATIONS = {INCOMING_ANNOTATION, OUTGOING_ANNOTATION};
+
+    /**
+     * The words which the content of a Java file must contain to have entry points: the simple names of the
+     * annotations, "Path" being also the end of "ApplicationPath".
+     */
+    private static final String[] ENTRY_POINT_WORDS = Stream.of(
+                    Stream.of("Path", REGISTER_REST_CLIENT_ANNOTATION),
+                    Stream.of(HEALTH_ANNOTATIONS),
+                    Stream.of(CHANNEL_ANNOTATIONS))
+            .flatMap(names -> names)
+            .map(StringUtil::getShortName)
+            .toArray(String[]::new);
+
+    @Override
+    public @NotNull ID<String, List<MicroProfileEntryPoint>> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, List<MicroProfileEntryPoint>, FileContent> getIndexer() {
+        return inputData -> {
+            // Most Java files have no entry points, the content is checked before building the PSI
+            if (!containsEntryPointWord(inputData.getContentAsText())) {
+                return Collections.emptyMap();
+            }
+            PsiFile file = inputData.getPsiFile();
+            if (!(file instanceof PsiJavaFile javaFile)) {
+                return Collections.emptyMap();
+            }
+            EntryPointCollector collector = new EntryPointCollector(javaFile);
+            for (PsiClass type : javaFile.getClasses()) {
+                collector.collect(type);
+            }
+            return collector.getEntryPoints();
+        };
+    }
+
+    private static boolean containsEntryPointWord(CharSequence content) {
+        for (String word : ENTRY_POINT_WORDS) {
+            if (StringUtil.contains(content, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataExternalizer<List<MicroProfileEntryPoint>> getValueExternalizer() {
+        return EntryPointsExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Collects the entry points of a Java file.
+     */
+    private static class EntryPointCollector {
+
+        private final Map<String, List<MicroProfileEntryPoint>> entryPoints = new HashMap<>();
+
+        private final Map<String /* simple name */, String /* qualified name */> singleImports = new HashMap<>();
+
+        private final Set<String> onDemandImports = new HashSet<>();
+
+        EntryPointCollector(PsiJavaFile javaFile) {
+            onDemandImports.add(javaFile.getPackageName());
+            PsiImportList importList = javaFile.getImportList();
+            if (importList != null) {
+                for (PsiImportStatement importStatement : importList.getImportStatements()) {
+                    String qualifiedName = importStatement.getQualifiedName();
+                    if (qualifiedName == null) {
+                        continue;
+                    }
+                    if (importStatement.isOnDemand()) {
+                        onDemandImports.add(qualifiedName);
+                    } else {
+                        singleImports.put(StringUtil.getShortName(qualifiedName), qualifiedName);
+                    }
+                }
+            }
+        }
+
+        void collect(PsiClass type) {
+            String applicationPath = getStringValue(findAnnotation(type, JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION,
+                    JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION));
+            if (applicationPath != null) {
+                add(APPLICATION_PATH_KEY, new MicroProfileEntryPoint(applicationPath, null, SymbolKind.Namespace, 0, 0));
+            }
+            if (findAnnotation(type, REGISTER_REST_CLIENT_ANNOTATION) != null) {
+                addSymbol(type, "@RegisterRestClient: " + type.getName(), SymbolKind.Interface);
+            }
+            String healthAnnotation = getMatchingAnnotation(type, HEALTH_ANNOTATIONS);
+            if (healthAnnotation != null) {
+                addSymbol(type, "@" + StringUtil.getShortName(healthAnnotation) + ": " + type.getName(), SymbolKind.Class);
+            }
+            PsiAnnotation path = findAnnotation(type, JAVAX_WS_RS_PATH_ANNOTATION, JAKARTA_WS_RS_PATH_ANNOTATION);
+            String rootPath = getStringValue(path);
+            for (PsiMethod method : type.getMethods()) {
+                if (path != null) {
+                    collectJaxRsEndpoint(method, rootPath);
+                }
+                for (String channelAnnotation : CHANNEL_ANNOTATIONS) {
+                    String channel = getStringValue(findAnnotation(method, channelAnnotation));
+                    if (channel != null) {
+                        addSymbol(method, "@" + StringUtil.getShortName(channelAnnotation) + ": " + channel,
+                                SymbolKind.Method);
+                    }
+                }
+            }
+            for (PsiClass innerType : type.getInnerClasses()) {
+                collect(innerType);
+            }
+        }
+
+        private void collectJaxRsEndpoint(PsiMethod method, String rootPath) {
+            // A JAX-RS method is a public method annotated with @GET @POST, @DELETE, @PUT JAX-RS annotation
+            if (method.isConstructor() || !method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)) {
+                return;
+            }
+            String httpAnnotation = getMatchingAnnotation(method, HTTP_METHOD_ANNOTATIONS);
+            HttpMethod httpMethod = httpAnnotation != null ? JaxRsUtils.getHttpMethodForAnnotation(httpAnnotation) : null;
+            if (httpMethod == null) {
+                return;
+            }
+            String methodPath = getStringValue(findAnnotation(method, JAVAX_WS_RS_PATH_ANNOTATION,
+                    JAKARTA_WS_RS_PATH_ANNOTATION));
+            PsiElement nameIdentifier = method.getNameIdentifier();
+            if (nameIdentifier != null) {
+                add(SYMBOLS_KEY, new MicroProfileEntryPoint(httpMethod.name(), JaxRsUtils.buildURL(rootPath, methodPath),
+                        SymbolKind.Method, nameIdentifier.getTextOffset(), nameIdentifier.getTextLength()));
+            }
+        }
+
+        private void addSymbol(PsiModifierListOwner element, String name, SymbolKind kind) {
+            PsiElement nameIdentifier = element instanceof PsiClass type ? type.getNameIdentifier()
+                    : ((PsiMethod) element).getNameIdentifier();
+            if (nameIdentifier != null) {
+                add(SYMBOLS_KEY, new MicroProfileEntryPoint(name, null, kind, nameIdentifier.getTextOffset(),
+                        nameIdentifier.getTextLength()));
+            }
+        }
+
+        private void add(String key, MicroProfileEntryPoint entryPoint) {
+            entryPoints.computeIfAbsent(key, k -> new ArrayList<>()).add(entryPoint);
+        }
+
+        Map<String, List<MicroProfileEntryPoint>> getEntryPoints() {
+            return entryPoints;
+        }
+
+        private @Nullable PsiAnnotation findAnnotation(PsiModifierListOwner owner, String... annotationNames) {
+            for (PsiAnnotation annotation : owner.getAnnotations()) {
+                for (String annotationName : annotationNames) {
+                    if (isMatchAnnotation(annotation, annotationName)) {
+                        return annotation;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private @Nullable String getMatchingAnnotation(PsiModifierListOwner owner, String... annotationNames) {
+            for (PsiAnnotation annotation : owner.getAnnotations()) {
+                for (String annotationName : annotationNames) {
+                    if (isMatchAnnotation(annotation, annotationName)) {
+                        return annotationName;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns true if the given annotation matches the given qualified name, using the imports of the file instead
+         * of resolving the annotation reference.
+         */
+        private boolean isMatchAnnotation(PsiAnnotation annotation, String annotationName) {
+            PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            if (reference == null || !StringUtil.getShortName(annotationName).equals(reference.getReferenceName())) {
+                return false;
+            }
+            if (reference.isQualified()) {
+                return annotationName.equals(reference.getQualifiedName());
+            }
+            String importedName = singleImports.get(reference.getReferenceName());
+            if (importedName != null) {
+                return annotationName.equals(importedName);
+            }
+            return onDemandImports.contains(StringUtil.getPackageName(annotationName));
+        }
+
+        private static @Nullable String getStringValue(@Nullable PsiAnnotation annotation) {
+            if (annotation == null) {
+                return null;
+            }
+            PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(VALUE);
+            if (value instanceof PsiLiteralExpression literal && literal.getValue() instanceof String stringValue) {
+                return stringValue;
+            }
+            return null;
+        }
+    }
+
+    private static class EntryPointsExternalizer implements DataExternalizer<List<MicroProfileEntryPoint>> {
+
+        private static final EntryPointsExternalizer INSTANCE = new EntryPointsExternalizer();
+
+        @Override
+        public void save(@NotNull DataOutput out, List<MicroProfileEntryPoint> entryPoints) throws IOException {
+            DataInputOutputUtil.writeINT(out, entryPoints.size());
+            for (MicroProfileEntryPoint entryPoint : entryPoints) {
+                IOUtil.writeUTF(out, entryPoint.name());
+                out.writeBoolean(entryPoint.urlTemplate() != null);
+                if (entryPoint.urlTemplate() != null) {
+                    IOUtil.writeUTF(out, entryPoint.urlTemplate());
+                }
+                DataInputOutputUtil.writeINT(out, entryPoint.kind().getValue());
+                DataInputOutputUtil.writeINT(out, entryPoint.offset());
+                DataInputOutputUtil.writeINT(out, entryPoint.length());
+            }
+        }
+
+        @Override
+        public List<MicroProfileEntryPoint> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<MicroProfileEntryPoint> entryPoints = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String name = IOUtil.readUTF(in);
+                String urlTemplate = in.readBoolean() ? IOUtil.readUTF(in) : null;
+                SymbolKind kind = SymbolKind.forValue(DataInputOutputUtil.readINT(in));
+                int offset = DataInputOutputUtil.readINT(in);
+                int length = DataInputOutputUtil.readINT(in);
+                entryPoints.add(new MicroProfileEntryPoint(name, urlTemplate, kind, offset, length));
+            }
+            return entryPoints;
+        }
+    }
+}
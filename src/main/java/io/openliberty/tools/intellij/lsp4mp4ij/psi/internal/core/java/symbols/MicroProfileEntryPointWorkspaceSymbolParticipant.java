@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.symbols;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DumbModeAccessType;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.symbols.IJavaWorkspaceSymbolsParticipant;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Collects the workspace symbols of the MicroProfile and Jakarta entry points of a module from the
+ * {@link MicroProfileEntryPointIndex}, without visiting the PSI of the Java files. The participant is dumb aware, during
+ * the indexing it collects the symbols of the files which are already indexed.
+ */
+public class MicroProfileEntryPointWorkspaceSymbolParticipant implements IJavaWorkspaceSymbolsParticipant, DumbAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MicroProfileEntryPointWorkspaceSymbolParticipant.class);
+
+    private static final Comparator<ApplicationPath> APPLICATION_PATH_ORDER = Comparator
+            .comparing(ApplicationPath::dependency)
+            .thenComparing(ApplicationPath::filePath)
+            .thenComparing(ApplicationPath::value);
+
+    @Override
+    public void collectSymbols(Module project, IPsiUtils utils, List<SymbolInformation> symbols, ProgressIndicator monitor) {
+        if (monitor.isCanceled()) {
+            return;
+        }
+        Runnable collect = () -> {
+            String applicationPath = getApplicationPath(project);
+            FileBasedIndex.getInstance().processValues(MicroProfileEntryPointIndex.NAME,
+                    MicroProfileEntryPointIndex.SYMBOLS_KEY, null, (file, entryPoints) -> {
+                        if (monitor.isCanceled()) {
+                            return false;
+                        }
+                        collectSymbols(file, entryPoints, applicationPath, utils, symbols);
+                        return true;
+                    }, project.getModuleScope(false));
+        };
+        if (DumbService.isDumb(project.getProject())) {
+            // The entry points of the files which are not indexed yet are missing, until the indexing ends
+            FileBasedIndex.getInstance().ignoreDumbMode(DumbModeAccessType.RELIABLE_DATA_ONLY, collect);
+        } else {
+            collect.run();
+        }
+    }
+
+    /**
+     * Returns the value of the @ApplicationPath annotation of the module and its dependencies and null otherwise.
+     *
+     * <p>
+     * When several values are declared, a value of the module wins over the values of its dependencies, then the
+     * value of the file with the smallest path wins, so that the result doesn't depend on the order of the index.
+     * </p>
+     */
+    private static @Nullable String getApplicationPath(Module project) {
+        GlobalSearchScope moduleScope = project.getModuleScope(false);
+        List<ApplicationPath> applicationPaths = new ArrayList<>();
+        FileBasedIndex.getInstance().processValues(MicroProfileEntryPointIndex.NAME,
+                MicroProfileEntryPointIndex.APPLICATION_PATH_KEY, null, (file, entryPoints) -> {
+                    for (MicroProfileEntryPoint entryPoint : entryPoints) {
+                        applicationPaths.add(new ApplicationPath(!moduleScope.contains(file), file.getPath(),
+                                entryPoint.name()));
+                    }
+                    return true;
+                }, GlobalSearchScope.moduleWithDependenciesScope(project));
+        return applicationPaths.stream()
+                .min(APPLICATION_PATH_ORDER)
+                .map(ApplicationPath::value)
+                .orElse(null);
+    }
+
+    private static void collectSymbols(VirtualFile file, List<MicroProfileEntryPoint> entryPoints,
+                                       String applicationPath, IPsiUtils utils, List<SymbolInformation> symbols) {
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        if (document == null) {
+            LOGGER.warn("Unable to get the document of {} to create its workspace symbols", file.getUrl());
+            return;
+        }
+        String uri = LSPIJUtils.toUriAsString(file);
+        for (MicroProfileEntryPoint entryPoint : entryPoints) {
+            if (entryPoint.offset() + entryPoint.length() > document.getTextLength()) {
+                // The index is outdated for this document which is being edited
+                continue;
+            }
+            Range range = utils.toRange(document, entryPoint.offset(), entryPoint.length());
+            String name = entryPoint.urlTemplate() != null
+                    ? "@" + JaxRsUtils.buildURL("/", applicationPath, entryPoint.urlTemplate()) + ": " + entryPoint.name()
+                    : entryPoint.name();
+            SymbolInformation symbol = new SymbolInformation();
+            symbol.setName(name);
+            symbol.setKind(entryPoint.kind());
+            symbol.setLocation(new Location(uri, range));
+            symbols.add(symbol);
+        }
+    }
+
+    private record ApplicationPath(boolean dependency, String filePath, String value) {
+    }
+}
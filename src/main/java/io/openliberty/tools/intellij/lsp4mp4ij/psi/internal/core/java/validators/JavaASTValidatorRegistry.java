@@ -13,6 +13,10 @@
 *******************************************************************************/
 package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidatorExtensionPointBean;
@@ -20,6 +24,7 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotati
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRule;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleAttributeExtensionPointBean;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleExtensionPointBean;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRuleTable;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationRulesJavaASTValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.AnnotationValidator;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations.RangeExpressionException;
@@ -27,8 +32,13 @@ import org.eclipse.lsp4j.Diagnostic;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -63,20 +73,19 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 
 	private static final String RANGE_ATTR = "range";
 
+	private static final String ANNOTATION_NAMES_KEY = JavaASTValidatorRegistry.class.getName() + "#annotationNames";
+
 	public static JavaASTValidatorRegistry getInstance() {
 		return INSTANCE;
 	}
 
-	private boolean extensionProvidersLoaded;
 	private boolean registryListenerIntialized;
 
-	private final List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
+	private volatile Validators validators;
 
 	private JavaASTValidatorRegistry() {
 		super();
-		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
-		this.validatorsFromClass = new ArrayList<>();
 	}
 
 	public String getExtensionId() {
@@ -91,28 +100,40 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 
 	@Override
 	public Collection<AnnotationRule> getRules() {
-		loadExtensionJavaASTValidators();
-		return super.getRules();
+		return loadExtensionJavaASTValidators().rules.getRules();
 	}
 
-	private synchronized void loadExtensionJavaASTValidators() {
-		if (extensionProvidersLoaded)
-			return;
+	private Validators loadExtensionJavaASTValidators() {
+		Validators current = validators;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (validators == null) {
+				if (!registryListenerIntialized) {
+					// Reload the validators when a plugin which contributes to the extension points is loaded or unloaded
+					JavaASTValidator.EP_NAME.addChangeListener(this::reset, null);
+					AnnotationValidator.EP_NAME.addChangeListener(this::reset, null);
+					registryListenerIntialized = true;
+				}
 
-		// Immediately set the flag, as to ensure that this method is never
-		// called twice
-		extensionProvidersLoaded = true;
+				LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
 
-		LOGGER.log(Level.INFO, "->- Loading ." + getExtensionId() + " extension point ->-");
+				validators = addExtensionJavaASTValidators();
 
-		addExtensionJavaASTValidators();
+				LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+			}
+			return validators;
+		}
+	}
 
-		LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+	private synchronized void reset() {
+		unregisterRules();
+		validators = null;
 	}
 
-	private void addExtensionJavaASTValidators() {
+	private Validators addExtensionJavaASTValidators() {
 		try {
-			validatorsFromClass.addAll(JavaASTValidator.EP_NAME.getExtensionList());
 			for(AnnotationRuleExtensionPointBean bean : AnnotationValidator.EP_NAME.getExtensions()) {
 				registerRule(createRule(bean));
 
@@ -120,6 +141,33 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		} catch (RangeExpressionException e) {
 			LOGGER.log(Level.WARNING, "  Loaded while loading " + getExtensionId(), e);
 		}
+		// Compile the rules once in an immutable table, shared by the diagnostics requests
+		AnnotationRuleTable rules = new AnnotationRuleTable(super.getRules());
+		Set<String> ruleAnnotationNames = new HashSet<>();
+		rules.getAnnotations().forEach(annotation -> ruleAnnotationNames.add(StringUtil.getShortName(annotation)));
+
+		List<JavaASTValidatorExtensionPointBean> validatorsFromClass = new ArrayList<>();
+		BitSet unfiltered = new BitSet();
+		Map<String, BitSet> validatorsByAnnotationName = new HashMap<>();
+		for (JavaASTValidatorExtensionPointBean ce : JavaASTValidator.EP_NAME.getExtensionList()) {
+			try {
+				// Index the validator by the annotations it reports diagnostics on
+				Collection<String> annotationNames = ce.createValidator().getAnnotationNames();
+				int index = validatorsFromClass.size();
+				validatorsFromClass.add(ce);
+				if (annotationNames.isEmpty()) {
+					unfiltered.set(index);
+				}
+				for (String annotationName : annotationNames) {
+					validatorsByAnnotationName.computeIfAbsent(StringUtil.getShortName(annotationName), name -> new BitSet())
+							.set(index);
+				}
+			} catch (ClassNotFoundException | NoSuchMethodException |
+					 InvocationTargetException | InstantiationException | IllegalAccessException e) {
+				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
+			}
+		}
+		return new Validators(rules, ruleAnnotationNames, validatorsFromClass, unfiltered, validatorsByAnnotationName);
 	}
 
 	private AnnotationRule createRule(AnnotationRuleExtensionPointBean bean) throws RangeExpressionException {
@@ -133,9 +181,22 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	}
 
 	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
+		Validators current = loadExtensionJavaASTValidators();
+		Set<String> annotationNames = getAnnotationNames(context);
 		List<JavaASTValidator> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, validators);
-		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
+		if (!current.rules.isEmpty() && containsAny(annotationNames, current.ruleAnnotationNames)) {
+			addValidator(new AnnotationRulesJavaASTValidator(current.rules), context, diagnostics, validators);
+		}
+		BitSet selected = (BitSet) current.unfiltered.clone();
+		for (String annotationName : annotationNames) {
+			BitSet matching = current.validatorsByAnnotationName.get(annotationName);
+			if (matching != null) {
+				selected.or(matching);
+			}
+		}
+		// Keep the registration order of the validators
+		for (int index = selected.nextSetBit(0); index >= 0; index = selected.nextSetBit(index + 1)) {
+			JavaASTValidatorExtensionPointBean ce = current.validatorsFromClass.get(index);
 			try {
 				addValidator(ce.createValidator(), context, diagnostics, validators);
 			} catch (ClassNotFoundException | NoSuchMethodException |
@@ -154,4 +215,48 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns the simple names of the annotations used in the Java file of the
+	 * given context. The names are collected once per diagnostics request and
+	 * stored in the context.
+	 *
+	 * @param context the java diagnostics context.
+	 * @return the simple names of the annotations used in the Java file.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Set<String> getAnnotationNames(JavaDiagnosticsContext context) {
+		Set<String> annotationNames = (Set<String>) context.get(ANNOTATION_NAMES_KEY);
+		if (annotationNames == null) {
+			annotationNames = new HashSet<>();
+			// The simple name is read from the reference text, without resolving the annotation type
+			for (PsiAnnotation annotation : PsiTreeUtil.findChildrenOfType(context.getASTRoot(), PsiAnnotation.class)) {
+				PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+				String name = reference != null ? reference.getReferenceName() : null;
+				if (name != null) {
+					annotationNames.add(name);
+				}
+			}
+			context.put(ANNOTATION_NAMES_KEY, annotationNames);
+		}
+		return annotationNames;
+	}
+
+	private static boolean containsAny(Set<String> annotationNames, Set<String> expectedNames) {
+		for (String expectedName : expectedNames) {
+			if (annotationNames.contains(expectedName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The loaded validators, indexed by the simple names of the annotations they
+	 * report diagnostics on.
+	 */
+	private record Validators(AnnotationRuleTable rules, Set<String> ruleAnnotationNames,
+							  List<JavaASTValidatorExtensionPointBean> validatorsFromClass, BitSet unfiltered,
+							  Map<String, BitSet> validatorsByAnnotationName) {
+	}
+
+}
@@ -27,9 +27,10 @@ import com.intellij.openapi.vfs.VirtualFile;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.IConfigSource;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.IConfigSourceProvider;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PropertiesConfigSource;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.YamlConfigSource;
 
 /**
- * Provides the META-INF/microprofile-config.properties configuration source
+ * Provides the META-INF/microprofile-config.properties and META-INF/microprofile-config.yaml configuration sources
  *
  * @author datho7561
  */
@@ -45,6 +46,14 @@ public class MicroProfileConfigSourceProvider implements IConfigSourceProvider {
 	private static final Pattern PER_PROFILE_FILE_NAME_PTN = Pattern
 			.compile("microprofile-config-([A-Za-z]+)\\.properties");
 
+	private static final Pattern YAML_FILE_NAME_PTN = Pattern
+			.compile("microprofile-config(?:-([A-Za-z]+))?\\.ya?ml");
+
+	/**
+	 * Ordinal of the YAML config sources, as in the SmallRye Config YAML extension.
+	 */
+	private static final int YAML_ORDINAL = 110;
+
 	@Override
 	public List<IConfigSource> getConfigSources(Module javaProject, VirtualFile outputFolder) {
 		List<IConfigSource> configSources = new ArrayList<>();
@@ -80,13 +89,21 @@ public class MicroProfileConfigSourceProvider implements IConfigSourceProvider {
 		if (m.matches()) {
 			return new PropertiesConfigSource(META_INF_FOLDER + "/" + fileName, m.group(1), 101, javaProject);
 		}
+		m = YAML_FILE_NAME_PTN.matcher(fileName);
+		if (m.matches()) {
+			String profile = m.group(1);
+			return profile != null
+					? new YamlConfigSource(META_INF_FOLDER + "/" + fileName, profile, YAML_ORDINAL + 1, javaProject)
+					: new YamlConfigSource(META_INF_FOLDER + "/" + fileName, YAML_ORDINAL, javaProject);
+		}
 		return null;
 	}
 
 	@Override
 	public boolean isConfigSource(String fileName) {
 		return MICROPROFILE_CONFIG_PROPERTIES_FILE_NAME.equals(fileName)
-				| PER_PROFILE_FILE_NAME_PTN.matcher(fileName).matches();
+				| PER_PROFILE_FILE_NAME_PTN.matcher(fileName).matches()
+				| YAML_FILE_NAME_PTN.matcher(fileName).matches();
 	}
 
 }
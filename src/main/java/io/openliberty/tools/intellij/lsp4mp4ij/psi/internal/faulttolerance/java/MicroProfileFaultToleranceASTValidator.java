@@ -25,6 +25,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import java.text.MessageFormat;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -77,6 +78,11 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 		return adapted;
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return Arrays.asList(FALLBACK_ANNOTATION, ASYNCHRONOUS_ANNOTATION, RETRY_ANNOTATION);
+	}
+
 	private void addAllowedReturnTypeForAsynchronousAnnotation(Module javaProject, String returnType) {
 		if (PsiTypeUtils.findType(javaProject, returnType) != null) {
 			allowedReturnTypesForAsynchronousAnnotation.add(returnType);
@@ -18,11 +18,6 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.*;
-import com.intellij.psi.search.SearchScope;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.util.MergeQuery;
-import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.*;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
@@ -31,16 +26,12 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.CancellationException;
-import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_PATH_ANNOTATION;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_PATH_ANNOTATION;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsPathValue;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isJaxRsRequestMethod;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.hasAnnotation;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.overlaps;
 
 /**
  * Locates JAX-RS methods in a project or class file using the default semantics.
@@ -62,33 +53,8 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 		}
 
 		try {
-			SearchScope scope = javaProject.getModuleScope(false);
-
-			Query<PsiModifierListOwner> query = null;
-			for (var httpAnnotation : JaxRsConstants.HTTP_METHOD_ANNOTATIONS) {
-				PsiClass annotationClass = utils.findClass(javaProject, httpAnnotation);
-				if (annotationClass != null) {
-					Query<PsiModifierListOwner> annotationQuery = AnnotatedElementsSearch.searchElements(annotationClass, scope, PsiModifierListOwner.class);
-					if (query == null) {
-						query = annotationQuery;
-					} else {
-						query = new MergeQuery<>(query, annotationQuery);
-					}
-				}
-			}
-			if (query == null) {
-				return Collections.emptySet();
-			}
-
-			Set<PsiClass> jaxRsClasses = new HashSet<>();
-			query.forEach((Consumer<? super PsiModifierListOwner>) item -> {
-				if (item instanceof PsiMember) {
-					PsiClass cl = ((PsiMember) item).getContainingClass();
-					if (cl != null) {
-						jaxRsClasses.add(cl);
-					}
-				}
-			});
+			// The resource classes are searched once per module until the next PSI modification
+			Set<PsiClass> jaxRsClasses = JaxRsEndpointIndex.getInstance(javaProject).getResourceClasses();
 			if (monitor.isCanceled()) {
 				return Collections.emptySet();
 			}
@@ -109,7 +75,7 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 													ProgressIndicator monitor) {
 		List<JaxRsMethodInfo> methodInfos = new ArrayList<>();
 		try {
-			collectJaxRsMethodInfo(typeRoot.getChildren(), null, methodInfos, jaxrsContext, utils, monitor);
+			collectJaxRsMethodInfo(typeRoot.getChildren(), methodInfos, jaxrsContext, monitor);
 		} catch (ProcessCanceledException e) {
 			//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
 			//TODO delete block when minimum required version is 2024.2
@@ -122,53 +88,43 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 		return methodInfos;
 	}
 
-	private static void collectJaxRsMethodInfo(PsiElement[] elements, String rootPath,
-											   Collection<JaxRsMethodInfo> jaxRsMethodsInfo, JaxRsContext jaxrsContext, IPsiUtils utils,
-											   ProgressIndicator monitor) {
+	private static void collectJaxRsMethodInfo(PsiElement[] elements, Collection<JaxRsMethodInfo> jaxRsMethodsInfo,
+											   JaxRsContext jaxrsContext, ProgressIndicator monitor) {
 		for (PsiElement element : elements) {
 			if (monitor.isCanceled()) {
 				return;
 			}
-			if (element instanceof PsiClass) {
-				PsiClass type = (PsiClass) element;
-				// Get value of JAX-RS @Path annotation from the class
-				String pathValue = getJaxRsPathValue(type);
-				if (pathValue != null) {
-					// Class is annotated with @Path
-					// Loop for each method annotated with @Path to generate
-					// URL code lens per
-					// method.
-					collectJaxRsMethodInfo(type.getChildren(), pathValue, jaxRsMethodsInfo, jaxrsContext, utils,
-							monitor);
-				}
-				continue;
-			} else if (element instanceof PsiMethod) {
-				PsiMethod method = (PsiMethod) element;
-				if (method.isConstructor() || utils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				// ignore element if method range overlaps the type range,
-				// happens for generated
-				// bytecode, i.e. with lombok
-				PsiClass parentType = PsiTreeUtil.getParentOfType(element, PsiClass.class);
-				if (parentType != null && overlaps(parentType.getNameIdentifier().getTextRange(),
-						((PsiMethod) element).getNameIdentifier().getTextRange())) {
-					continue;
-				}
-			} else {// neither a type nor a method, we bail
-				continue;
+			if (element instanceof PsiClass type) {
+				collectJaxRsMethodInfo(type, jaxRsMethodsInfo, jaxrsContext, monitor);
 			}
+		}
+	}
 
-			// Here java element is a method
-			if (rootPath != null) {
-				PsiMethod method = (PsiMethod) element;
+	private static void collectJaxRsMethodInfo(PsiClass type, Collection<JaxRsMethodInfo> jaxRsMethodsInfo,
+											   JaxRsContext jaxrsContext, ProgressIndicator monitor) {
+		// Get value of JAX-RS @Path annotation from the class
+		if (getJaxRsPathValue(type) == null) {
+			return;
+		}
+		// Class is annotated with @Path
+		// Loop for each method annotated with @Path to generate
+		// URL code lens per
+		// method.
+		Map<PsiMethod, JaxRsEndpoint> endpoints = JaxRsEndpointIndex.getEndpoints(type);
+		for (PsiElement element : type.getChildren()) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			if (element instanceof PsiClass nestedType) {
+				collectJaxRsMethodInfo(nestedType, jaxRsMethodsInfo, jaxrsContext, monitor);
+			} else if (element instanceof PsiMethod) {
 				// A JAX-RS method is a public method annotated with @GET @POST,
 				// @DELETE, @PUT
 				// JAX-RS
 				// annotation
-				if (isJaxRsRequestMethod(method) && method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)) {
-					String baseURL = jaxrsContext.getLocalBaseURL();
-					JaxRsMethodInfo info = createJaxRsMethodInfo(baseURL, rootPath, method, utils);
+				JaxRsEndpoint endpoint = endpoints.get(element);
+				if (endpoint != null && endpoint.isPublicMethod()) {
+					JaxRsMethodInfo info = createJaxRsMethodInfo(jaxrsContext.getLocalBaseURL(), endpoint);
 					if (info != null) {
 						jaxRsMethodsInfo.add(info);
 					}
@@ -178,39 +134,22 @@ public class DefaultJaxRsInfoProvider implements IJaxRsInfoProvider {
 	}
 
 	/**
-	 * Returns the JAX-RS method information for the given Java method using the
+	 * Returns the JAX-RS method information for the given JAX-RS endpoint using the
 	 * default JAX-RS semantics.
 	 *
 	 * @param baseUrl  the base URL.
-	 * @param rootPath the JAX-RS path value.
-	 * @param method   the method to build the JAX-RS method information out of
-	 * @param utils    the jdt utils
-	 * @return the JAX-RS method information for the given Java method using the
+	 * @param endpoint the indexed JAX-RS endpoint.
+	 * @return the JAX-RS method information for the given JAX-RS endpoint using the
 	 *         default JAX-RS semantics
 	 */
-	private static JaxRsMethodInfo createJaxRsMethodInfo(String baseUrl, String rootPath, PsiMethod method,
-			IPsiUtils utils)  {
+	private static JaxRsMethodInfo createJaxRsMethodInfo(String baseUrl, JaxRsEndpoint endpoint) {
+		PsiMethod method = endpoint.getJavaMethod();
 		PsiFile resource = method.getContainingFile();
 		if (resource == null) {
 			return null;
 		}
 		String documentUri = LSPIJUtils.toUriAsString(resource);
-
-		HttpMethod httpMethod = null;
-		for (String methodAnnotationFQN : JaxRsConstants.HTTP_METHOD_ANNOTATIONS) {
-			if (hasAnnotation(method, methodAnnotationFQN)) {
-				httpMethod = JaxRsUtils.getHttpMethodForAnnotation(methodAnnotationFQN);
-				break;
-			}
-		}
-		if (httpMethod == null) {
-			return null;
-		}
-
-		String pathValue = getJaxRsPathValue(method);
-		String url = JaxRsUtils.buildURL(baseUrl, rootPath, pathValue);
-
-		return new JaxRsMethodInfo(url, httpMethod, method, documentUri);
+		return new JaxRsMethodInfo(endpoint.getUrl(baseUrl), endpoint.getHttpMethod(), method, documentUri);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
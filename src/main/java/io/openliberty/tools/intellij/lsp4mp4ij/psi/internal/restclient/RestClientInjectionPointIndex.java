@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+/**
+ * File based index of the MicroProfile REST client injection points, i.e. the fields annotated with @Inject and
+ * @RestClient.
+ *
+ * <p>
+ * The index is keyed by the simple names of the types referenced by the injected fields, and stores the offsets of
+ * those fields. The annotations and the types can't be resolved while indexing a file, so the candidate fields are
+ * resolved at query time by {@link #getInjectionPoints(PsiClass, GlobalSearchScope)}.
+ * </p>
+ */
+public final class RestClientInjectionPointIndex extends FileBasedIndexExtension<String, List<Integer>> {
+
+	public static final ID<String, List<Integer>> NAME = ID.create("open-liberty.microprofile.restClientInjectionPoints");
+
+	private static final String INJECT_SIMPLE_NAME = StringUtil.getShortName(INJECT_JAVAX_ANNOTATION);
+
+	private static final String REST_CLIENT_SIMPLE_NAME = StringUtil.getShortName(REST_CLIENT_ANNOTATION);
+
+	/**
+	 * Returns the fields of the given scope annotated with @Inject and @RestClient which reference the given
+	 * interface, in the same order as the files of the scope are processed by the index.
+	 *
+	 * @param interfaceType the REST client interface.
+	 * @param scope         the search scope.
+	 * @return the injection points of the given interface.
+	 */
+	public static List<PsiField> getInjectionPoints(@NotNull PsiClass interfaceType, @NotNull GlobalSearchScope scope) {
+		String name = interfaceType.getName();
+		if (name == null) {
+			return Collections.emptyList();
+		}
+		PsiManager manager = interfaceType.getManager();
+		Set<PsiField> injectionPoints = new LinkedHashSet<>();
+		FileBasedIndex.getInstance().processValues(NAME, name, null, (VirtualFile file, List<Integer> offsets) -> {
+			PsiFile psiFile = manager.findFile(file);
+			if (psiFile == null) {
+				return true;
+			}
+			for (Integer offset : offsets) {
+				PsiField field = PsiTreeUtil.findElementOfClassAtOffset(psiFile, offset, PsiField.class, true);
+				if (field != null && isInjectionPoint(field) && referencesType(field, interfaceType, manager)) {
+					injectionPoints.add(field);
+				}
+			}
+			return true;
+		}, scope);
+		return new ArrayList<>(injectionPoints);
+	}
+
+	private static boolean isInjectionPoint(PsiField field) {
+		return AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION)
+				&& AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
+	}
+
+	private static boolean referencesType(PsiField field, PsiClass type, PsiManager manager) {
+		for (PsiJavaCodeReferenceElement reference : PsiTreeUtil.findChildrenOfType(field, PsiJavaCodeReferenceElement.class)) {
+			if (type.getName().equals(reference.getReferenceName()) && manager.areElementsEquivalent(reference.resolve(), type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public @NotNull ID<String, List<Integer>> getName() {
+		return NAME;
+	}
+
+	@Override
+	public @NotNull DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+		return inputData -> {
+			// Most Java files have no REST client injection point, the content is checked before building the PSI
+			if (!StringUtil.contains(inputData.getContentAsText(), REST_CLIENT_SIMPLE_NAME)) {
+				return Collections.emptyMap();
+			}
+			PsiFile file = inputData.getPsiFile();
+			if (!(file instanceof PsiJavaFile)) {
+				return Collections.emptyMap();
+			}
+			Map<String, List<Integer>> injectionPoints = new HashMap<>();
+			for (PsiField field : PsiTreeUtil.findChildrenOfType(file, PsiField.class)) {
+				if (!hasAnnotation(field, INJECT_SIMPLE_NAME) || !hasAnnotation(field, REST_CLIENT_SIMPLE_NAME)) {
+					continue;
+				}
+				Set<String> referencedNames = new LinkedHashSet<>();
+				for (PsiJavaCodeReferenceElement reference : PsiTreeUtil.findChildrenOfType(field, PsiJavaCodeReferenceElement.class)) {
+					if (!(reference.getParent() instanceof PsiAnnotation) && reference.getReferenceName() != null) {
+						referencedNames.add(reference.getReferenceName());
+					}
+				}
+				int offset = field.getTextRange().getStartOffset();
+				for (String referencedName : referencedNames) {
+					injectionPoints.computeIfAbsent(referencedName, k -> new ArrayList<>()).add(offset);
+				}
+			}
+			return injectionPoints;
+		};
+	}
+
+	/**
+	 * Returns true if the given field has an annotation with the given simple name, without resolving it.
+	 */
+	private static boolean hasAnnotation(PsiField field, String simpleName) {
+		for (PsiAnnotation annotation : field.getAnnotations()) {
+			PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+			if (reference != null && simpleName.equals(reference.getReferenceName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@Override
+	public @NotNull DataExternalizer<List<Integer>> getValueExternalizer() {
+		return OffsetsExternalizer.INSTANCE;
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+	@Override
+	public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	private static class OffsetsExternalizer implements DataExternalizer<List<Integer>> {
+
+		private static final OffsetsExternalizer INSTANCE = new OffsetsExternalizer();
+
+		@Override
+		public void save(@NotNull DataOutput out, List<Integer> offsets) throws IOException {
+			DataInputOutputUtil.writeINT(out, offsets.size());
+			for (Integer offset : offsets) {
+				DataInputOutputUtil.writeINT(out, offset);
+			}
+		}
+
+		@Override
+		public List<Integer> read(@NotNull DataInput in) throws IOException {
+			int size = DataInputOutputUtil.readINT(in);
+			List<Integer> offsets = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				offsets.add(DataInputOutputUtil.readINT(in));
+			}
+			return offsets;
+		}
+	}
+}
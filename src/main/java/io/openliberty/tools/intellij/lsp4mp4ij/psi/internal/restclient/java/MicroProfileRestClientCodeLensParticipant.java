@@ -20,9 +20,11 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.util.PsiTreeUtil;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codelens.IJavaCodeLensParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoint;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpointIndex;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
@@ -33,14 +35,11 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.createURLCodeLens;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsPathValue;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isClickableJaxRsRequestMethod;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isJaxRsRequestMethod;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.getAnnotation;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.getAnnotationMemberValue;
-import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.overlaps;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REGISTER_REST_CLIENT_ANNOTATION;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REGISTER_REST_CLIENT_ANNOTATION_BASE_URI;
 
@@ -74,47 +73,41 @@ public class MicroProfileRestClientCodeLensParticipant implements IJavaCodeLensP
 		List<CodeLens> lenses = new ArrayList<>();
 		PsiMicroProfileProject mpProject = PsiMicroProfileProjectManager.getInstance(context.getJavaProject().getProject())
 				.getMicroProfileProject(context.getJavaProject());
-		collectURLCodeLenses(elements, null, null, mpProject, lenses, params, utils);
+		collectURLCodeLenses(elements, mpProject, lenses, params, utils);
 		return lenses;
 	}
 
-	private static void collectURLCodeLenses(PsiElement[] elements, String baseURL, String rootPath,
-			PsiMicroProfileProject mpProject, Collection<CodeLens> lenses, MicroProfileJavaCodeLensParams params,
-			IPsiUtils utils) {
+	private static void collectURLCodeLenses(PsiElement[] elements, PsiMicroProfileProject mpProject,
+			Collection<CodeLens> lenses, MicroProfileJavaCodeLensParams params, IPsiUtils utils) {
 		for (PsiElement element : elements) {
-			if (element instanceof PsiClass) {
-				PsiClass type = (PsiClass) element;
+			if (element instanceof PsiClass type) {
 				String url = getBaseURL(type, mpProject);
 				if (url != null) {
-					// Get value of JAX-RS @Path annotation from the class
-					String pathValue = getJaxRsPathValue(type);
-					collectURLCodeLenses(type.getChildren(), url, pathValue, mpProject, lenses, params, utils);
+					collectURLCodeLenses(type, url, mpProject, lenses, params, utils);
 				}
-				continue;
-			} else if (element instanceof PsiMethod) {
-				if (utils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				// ignore element if method range overlaps the type range, happens for generated
-				// bytecode, i.e. with lombok
-				PsiClass parentType = PsiTreeUtil.getParentOfType(element, PsiClass.class);
-				if (parentType != null && overlaps(parentType.getNameIdentifier().getTextRange(),
-						((PsiMethod) element).getNameIdentifier().getTextRange())) {
-					continue;
-				}
-			} else {// neither a type nor a method, we bail
-				continue;
 			}
+		}
+	}
 
-			// Here java element is a method
-			if (baseURL != null) {
-				PsiMethod method = (PsiMethod) element;
+	private static void collectURLCodeLenses(PsiClass type, String baseURL, PsiMicroProfileProject mpProject,
+			Collection<CodeLens> lenses, MicroProfileJavaCodeLensParams params, IPsiUtils utils) {
+		// The JAX-RS request methods, with the value of the JAX-RS @Path annotation from the class, are read from the
+		// index
+		Map<PsiMethod, JaxRsEndpoint> endpoints = JaxRsEndpointIndex.getEndpoints(type);
+		for (PsiElement element : type.getChildren()) {
+			if (element instanceof PsiClass nestedType) {
+				String nestedURL = getBaseURL(nestedType, mpProject);
+				if (nestedURL != null) {
+					collectURLCodeLenses(nestedType, nestedURL, mpProject, lenses, params, utils);
+				}
+			} else if (element instanceof PsiMethod method) {
 				// A JAX-RS method is a public method annotated with @GET @POST, @DELETE, @PUT
 				// JAX-RS
 				// annotation
-				if (isJaxRsRequestMethod(method)) {
-					String openURICommandId = isClickableJaxRsRequestMethod(method) ? params.getOpenURICommand() : null;
-					CodeLens lens = createURLCodeLens(baseURL, rootPath, openURICommandId, (PsiMethod) element, utils);
+				JaxRsEndpoint endpoint = endpoints.get(method);
+				if (endpoint != null) {
+					String openURICommandId = HttpMethod.GET.equals(endpoint.getHttpMethod()) ? params.getOpenURICommand() : null;
+					CodeLens lens = createURLCodeLens(endpoint.getUrl(baseURL), openURICommandId, method, utils);
 					if (lens != null) {
 						lenses.add(lens);
 					}
@@ -135,15 +128,19 @@ public class MicroProfileRestClientCodeLensParticipant implements IJavaCodeLensP
 		if (registerRestClientAnnotation == null) {
 			return null;
 		}
-		// Search base url from the configured property $class/mp-rest/uri
-		String baseURIFromConfig = getBaseURIFromConfig(type, mpProject);
-		if (baseURIFromConfig != null) {
-			return baseURIFromConfig;
-		}
-		// Search base url from the configured property $class/mp-rest/url
-		String baseURLFromConfig = getBaseURLFromConfig(type, mpProject);
-		if (baseURLFromConfig != null) {
-			return baseURLFromConfig;
+		// The configured properties of the REST client are searched only when a
+		// $class/mp-rest/* property is declared
+		if (mpProject.hasPropertyWithPrefix(type.getQualifiedName() + "/mp-rest/")) {
+			// Search base url from the configured property $class/mp-rest/uri
+			String baseURIFromConfig = getBaseURIFromConfig(type, mpProject);
+			if (baseURIFromConfig != null) {
+				return baseURIFromConfig;
+			}
+			// Search base url from the configured property $class/mp-rest/url
+			String baseURLFromConfig = getBaseURLFromConfig(type, mpProject);
+			if (baseURLFromConfig != null) {
+				return baseURLFromConfig;
+			}
 		}
 		// Search base url from the @RegisterRestClient/baseUri
 		String baseURIFromAnnotation = getAnnotationMemberValue(registerRestClientAnnotation,
@@ -16,11 +16,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.searches.ReferencesSearch;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.util.Query;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
@@ -28,13 +24,13 @@ import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants;
 import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientErrorCode;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.RestClientInjectionPointIndex;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Range;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
 import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
@@ -202,25 +198,17 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 			return;
 		}
 
-		final AtomicInteger nbReferences = new AtomicInteger(0);
-		Query<PsiReference> query = ReferencesSearch.search(interfaceType, createSearchScope(context.getJavaProject()));
-		query.forEach(match -> {
-			PsiField field = PsiTreeUtil.getParentOfType(match.getElement(), PsiField.class);
-			if (field != null) {
-				boolean hasInjectAnnotation = AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION);
-				boolean hasRestClientAnnotation = AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
-				if (hasInjectAnnotation && hasRestClientAnnotation) {
-					nbReferences.incrementAndGet();
-				}
-			}
-		});
+		// The injection points are looked up in the REST client injection point index instead of searching the
+		// references of the interface
+		int nbReferences = RestClientInjectionPointIndex
+				.getInjectionPoints(interfaceType, createSearchScope(context.getJavaProject())).size();
 
-		if (nbReferences.get() > 0) {
+		if (nbReferences > 0) {
 			String uri = context.getUri();
 			Range restInterfaceRange = PositionUtils.toNameRange(interfaceType, context.getUtils());
 			Diagnostic d = context.createDiagnostic(uri,
 					"The interface `" + interfaceType.getName()
-							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences.get()
+							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences
 							+ " fields references will not be injected as CDI beans.",
 					restInterfaceRange, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
 					MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing);
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package io.openliberty.tools.intellij.util;
+
+import com.intellij.openapi.application.PathManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic AppCDS (Class Data Sharing) archives used to start the language servers bundled in <code>lib/server</code>.
+ *
+ * <p>
+ * Each server gets an archive whose name contains the checksum of its jars, stored in the IDE system directory.
+ * The archive is created by the server JVM itself on its first exit (<code>-XX:+AutoCreateSharedArchive</code>)
+ * and is used by the next launches, so a new archive is generated when a jar changes. Archives of previous jars
+ * are deleted.
+ * </p>
+ *
+ * <p>
+ * CDS can be disabled with the <code>-Dliberty.ls.cds=false</code> IDE system property.
+ * </p>
+ */
+public final class ClassDataSharingArchives {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassDataSharingArchives.class);
+
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /**
+     * Checksum of a jar by jar path, size and last modified time.
+     */
+    private static final Map<String, String> CHECKSUMS = new ConcurrentHashMap<>();
+
+    private ClassDataSharingArchives() {
+    }
+
+    /**
+     * Returns the JVM arguments to start the given language server with its CDS archive and an empty list if CDS
+     * is disabled or cannot be used.
+     *
+     * @param serverId  the language server id used to name the archive (ex: lsp4mp).
+     * @param classpath the jars of the language server.
+     * @return the JVM arguments to start the given language server with its CDS archive.
+     */
+    public static List<String> getJvmArgs(String serverId, List<File> classpath) {
+        if (!Boolean.parseBoolean(System.getProperty("liberty.ls.cds", "true"))) {
+            return Collections.emptyList();
+        }
+        try {
+            Path archiveDir = PathManager.getSystemDir().resolve("liberty-tools").resolve("cds");
+            Files.createDirectories(archiveDir);
+            Path archive = archiveDir.resolve(serverId + "-" + getChecksum(classpath) + ARCHIVE_EXTENSION);
+            deleteStaleArchives(archiveDir, serverId, archive);
+            return List.of("-XX:SharedArchiveFile=" + archive,
+                    "-XX:+AutoCreateSharedArchive",
+                    // JVM warnings are written to stdout by default which is used by the LSP communication
+                    "-Xlog:disable",
+                    "-Xlog:all=warning:stderr");
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.warn("Unable to use a CDS archive for the " + serverId + " language server", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static String getChecksum(List<File> classpath) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        for (File jar : classpath) {
+            digest.update(getChecksum(jar).getBytes());
+        }
+        // The JVM version is part of the checksum since an archive is only valid for the JVM which created it
+        digest.update(System.getProperty("java.vm.version", "").getBytes());
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    private static String getChecksum(File jar) throws IOException, NoSuchAlgorithmException {
+        String key = jar.getAbsolutePath() + "#" + jar.length() + "#" + jar.lastModified();
+        String checksum = CHECKSUMS.get(key);
+        if (checksum == null) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(jar.toPath()), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            checksum = HexFormat.of().formatHex(digest.digest());
+            CHECKSUMS.put(key, checksum);
+        }
+        return checksum;
+    }
+
+    private static void deleteStaleArchives(Path archiveDir, String serverId, Path archive) {
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(archiveDir, serverId + "-*" + ARCHIVE_EXTENSION)) {
+            for (Path staleArchive : archives) {
+                if (!staleArchive.equals(archive)) {
+                    Files.deleteIfExists(staleArchive);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete the stale CDS archives of the " + serverId + " language server", e);
+        }
+    }
+}
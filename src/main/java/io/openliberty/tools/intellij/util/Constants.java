@@ -96,4 +96,12 @@ public final class Constants {
     public static final String JAKARTA_LANG_SERVER="Eclipse LSP4Jakarta";
     public static final String MICROPROFILE_SERVER="Eclipse LSP4MP";
 
+    /**
+     * Ids of the language servers declared in lsp.xml
+     */
+    public static final String LIBERTY_XML_SERVER_ID = "libertyXml";
+    public static final String LIBERTY_CONFIG_SERVER_ID = "libertyls";
+    public static final String JAKARTA_LANG_SERVER_ID = "jakartals";
+    public static final String MICROPROFILE_SERVER_ID = "lsp4mp";
+
 }
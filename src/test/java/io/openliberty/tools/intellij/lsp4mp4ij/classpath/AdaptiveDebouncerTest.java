@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the flushes of the {@link AdaptiveDebouncer} used by {@link ClasspathResourceChangedNotifier} with the
+ * former fixed debounce of 1000 ms, which rescheduled the flush on each change, on a simulated clock.
+ */
+public class AdaptiveDebouncerTest {
+
+    private static final long FIXED_DELAY = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void isolatedChangeIsFlushedBeforeFixedDelay() {
+        List<Long> adaptive = simulate(createAdaptiveDebouncer(), List.of(new Change(0, true)));
+        List<Long> fixed = simulate(createFixedDebouncer(), List.of(new Change(0, true)));
+
+        Assertions.assertEquals(List.of(200L), adaptive);
+        Assertions.assertEquals(List.of(FIXED_DELAY), fixed);
+    }
+
+    @Test
+    public void eventStormIsFlushedLessOften() {
+        // A build which writes 20 files every 1.5 s, during 15 s
+        List<Change> storm = new ArrayList<>();
+        for (int wave = 0; wave < 10; wave++) {
+            for (int file = 0; file < 20; file++) {
+                storm.add(new Change(wave * 1500L + file * 10L, true));
+            }
+        }
+        List<Long> adaptive = simulate(createAdaptiveDebouncer(), storm);
+        List<Long> fixed = simulate(createFixedDebouncer(), storm);
+
+        Assertions.assertEquals(10, fixed.size(), "Unexpected flushes " + fixed);
+        Assertions.assertTrue(adaptive.size() < fixed.size() / 2, "Unexpected flushes " + adaptive);
+        // The changes are never postponed more than the max wait
+        long previous = 0;
+        for (long flush : adaptive) {
+            Assertions.assertTrue(flush - previous <= 5000 + 1500, "Unexpected flushes " + adaptive);
+            previous = flush;
+        }
+        Assertions.assertTrue(adaptive.get(adaptive.size() - 1) >= storm.get(storm.size() - 1).time());
+    }
+
+    @Test
+    public void isolatedChangeAfterEventStormIsFlushedQuickly() {
+        AdaptiveDebouncer debouncer = createAdaptiveDebouncer();
+        List<Change> changes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            changes.add(new Change(i * 20L, true));
+        }
+        // A save, once the rate window of the storm is over
+        changes.add(new Change(30_000, true));
+        List<Long> flushes = simulate(debouncer, changes);
+
+        Assertions.assertEquals(30_200L, flushes.get(flushes.size() - 1));
+    }
+
+    @Test
+    public void updatesOfPendingChangeDontIncreaseDelay() {
+        // Typing in the same file fires many Psi events for the same pending file
+        List<Change> typing = new ArrayList<>();
+        typing.add(new Change(0, true));
+        for (int i = 1; i < 30; i++) {
+            typing.add(new Change(i * 100L, false));
+        }
+        List<Long> flushes = simulate(createAdaptiveDebouncer(), typing);
+
+        Assertions.assertEquals(List.of(29 * 100L + 200L), flushes);
+    }
+
+    private AdaptiveDebouncer createAdaptiveDebouncer() {
+        return new AdaptiveDebouncer(200, 2000, 5000, 10000, clock::get);
+    }
+
+    private AdaptiveDebouncer createFixedDebouncer() {
+        return new AdaptiveDebouncer(FIXED_DELAY, FIXED_DELAY, Long.MAX_VALUE / 2, 10000, clock::get);
+    }
+
+    /**
+     * Plays the given changes, sorted by time, and returns the times of the flushes.
+     */
+    private List<Long> simulate(AdaptiveDebouncer debouncer, List<Change> changes) {
+        List<Long> flushes = new ArrayList<>();
+        long scheduled = -1;
+        for (Change change : changes) {
+            scheduled = runScheduledFlushes(debouncer, scheduled, change.time(), flushes);
+            clock.set(change.time());
+            if (debouncer.onChange(change.newChange())) {
+                scheduled = change.time() + debouncer.getDelay();
+            }
+        }
+        runScheduledFlushes(debouncer, scheduled, Long.MAX_VALUE, flushes);
+        return flushes;
+    }
+
+    private long runScheduledFlushes(AdaptiveDebouncer debouncer, long scheduled, long until, List<Long> flushes) {
+        while (scheduled >= 0 && scheduled <= until) {
+            clock.set(scheduled);
+            long delay = debouncer.pollDelay();
+            if (delay > 0) {
+                scheduled += delay;
+            } else {
+                flushes.add(scheduled);
+                scheduled = -1;
+            }
+        }
+        return scheduled;
+    }
+
+    private record Change(long time, boolean newChange) {
+    }
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.classpath;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.TimeoutUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests the debounced flushes of {@link ClasspathResourceChangedNotifier} with a listener of the
+ * {@link ClasspathResourceChangedManager#TOPIC} topic.
+ */
+public class ClasspathResourceChangedNotifierTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final long SOURCES_DELAY = 50;
+    private static final long LIBRARIES_DELAY = 500;
+
+    /**
+     * The time waited to check that nothing is published, longer than the delays of the flushes.
+     */
+    private static final long QUIET_PERIOD = 1000;
+
+    private static final int TIMEOUT_SECONDS = 10;
+
+    private final List<Set<Pair<VirtualFile, Module>>> sourcesEvents = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger librariesEvents = new AtomicInteger();
+
+    private ClasspathResourceChangedNotifier notifier;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        getProject().getMessageBus().connect(getTestRootDisposable()).subscribe(ClasspathResourceChangedManager.TOPIC,
+                new ClasspathResourceChangedManager.Listener() {
+
+                    @Override
+                    public void librariesChanged() {
+                        librariesEvents.incrementAndGet();
+                    }
+
+                    @Override
+                    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+                        // The notifier clears the published set once it is notified
+                        sourcesEvents.add(new HashSet<>(sources));
+                    }
+                });
+        notifier = new ClasspathResourceChangedNotifier(getProject(), true, createDebouncer(SOURCES_DELAY),
+                createDebouncer(LIBRARIES_DELAY));
+        Disposer.register(getTestRootDisposable(), notifier);
+    }
+
+    public void testSourcesAndLibrariesAreFlushedIndependently() {
+        Pair<VirtualFile, Module> a = createSourceFile("A");
+        Pair<VirtualFile, Module> b = createSourceFile("B");
+
+        notifier.addLibrary(null);
+        notifier.addSourceFile(a);
+        notifier.addSourceFile(b);
+        notifier.addSourceFile(a);
+
+        // The sources are flushed together, without waiting for the libraries
+        waitFor("sources flush", () -> !sourcesEvents.isEmpty());
+        assertEquals(List.of(Set.of(a, b)), sourcesEvents);
+        assertEquals(0, librariesEvents.get());
+
+        // The libraries are flushed later, without publishing the sources again
+        waitFor("libraries flush", () -> librariesEvents.get() > 0);
+        TimeoutUtil.sleep(QUIET_PERIOD);
+        assertEquals(1, librariesEvents.get());
+        assertEquals(1, sourcesEvents.size());
+    }
+
+    public void testDisposeCancelsPendingFlushes() {
+        notifier.addSourceFile(createSourceFile("A"));
+        notifier.addLibrary(null);
+
+        Disposer.dispose(notifier);
+        notifier.addSourceFile(createSourceFile("B"));
+        TimeoutUtil.sleep(LIBRARIES_DELAY + QUIET_PERIOD);
+
+        assertEmpty(sourcesEvents);
+        assertEquals(0, librariesEvents.get());
+    }
+
+    public void testEmptySourcesAreNotPublished() {
+        // Neither a Java file nor a config source, so the flush resolves no source file
+        PsiFile text = myFixture.addFileToProject("notes.txt", "notes");
+        notifier.addChangedFile(text);
+        TimeoutUtil.sleep(QUIET_PERIOD);
+        assertEmpty(sourcesEvents);
+
+        PsiFile java = myFixture.addFileToProject("org/acme/C.java", "package org.acme; public class C {}");
+        notifier.addChangedFile(text);
+        notifier.addChangedFile(java);
+        waitFor("sources flush", () -> !sourcesEvents.isEmpty());
+        TimeoutUtil.sleep(QUIET_PERIOD);
+        assertEquals(List.of(Set.of(Pair.pair(java.getVirtualFile(), getModule()))), sourcesEvents);
+        assertEquals(0, librariesEvents.get());
+    }
+
+    private Pair<VirtualFile, Module> createSourceFile(String className) {
+        PsiFile file = myFixture.addFileToProject("org/acme/" + className + ".java",
+                "package org.acme; public class " + className + " {}");
+        return Pair.pair(file.getVirtualFile(), getModule());
+    }
+
+    private static AdaptiveDebouncer createDebouncer(long delay) {
+        return new AdaptiveDebouncer(delay, delay, delay * 4, 10000, System::currentTimeMillis);
+    }
+
+    private static void waitFor(String flush, BooleanSupplier condition) {
+        PlatformTestUtil.waitWithEventsDispatching("No " + flush + " in " + TIMEOUT_SECONDS + " seconds", condition,
+                TIMEOUT_SECONDS);
+    }
+}
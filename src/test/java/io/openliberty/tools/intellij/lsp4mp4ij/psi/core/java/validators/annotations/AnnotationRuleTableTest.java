@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.java.validators.annotations;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the lookup of the rules of {@link AnnotationRuleTable}.
+ */
+public class AnnotationRuleTableTest {
+
+    private static final String CIRCUIT_BREAKER = "org.eclipse.microprofile.faulttolerance.CircuitBreaker";
+    private static final String RETRY = "org.eclipse.microprofile.faulttolerance.Retry";
+    private static final String TIMEOUT = "org.eclipse.microprofile.faulttolerance.Timeout";
+
+    private final AnnotationRuleTable table = new AnnotationRuleTable(createRules());
+
+    @Test
+    public void qualifiedName() {
+        Assertions.assertEquals(RETRY, table.getRule(RETRY).getAnnotation());
+        Assertions.assertEquals(TIMEOUT, table.getRule(TIMEOUT).getAnnotation());
+    }
+
+    @Test
+    public void simpleNameSuffix() {
+        // The name of an annotation which can't be resolved
+        Assertions.assertEquals(RETRY, table.getRule("Retry").getAnnotation());
+        Assertions.assertEquals(CIRCUIT_BREAKER, table.getRule("CircuitBreaker").getAnnotation());
+    }
+
+    @Test
+    public void qualifiedNameSuffix() {
+        Assertions.assertEquals(RETRY, table.getRule("faulttolerance.Retry").getAnnotation());
+        Assertions.assertEquals(RETRY, table.getRule("microprofile.faulttolerance.Retry").getAnnotation());
+    }
+
+    @Test
+    public void unknownAnnotations() {
+        Assertions.assertNull(table.getRule(null));
+        Assertions.assertNull(table.getRule("org.eclipse.microprofile.faulttolerance.Fallback"));
+        Assertions.assertNull(table.getRule("Fallback"));
+        // Same simple name, other package
+        Assertions.assertNull(table.getRule("org.acme.Retry"));
+        Assertions.assertNull(table.getRule("acme.faulttolerance.Retry"));
+        // A suffix of the simple name, which the former endsWith match accepted
+        Assertions.assertNull(table.getRule("etry"));
+    }
+
+    @Test
+    public void rulesAreCompiled() {
+        AnnotationRule rule = table.getRule(CIRCUIT_BREAKER);
+        Assertions.assertEquals("microprofile-faulttolerance", rule.getSource());
+        Assertions.assertEquals(List.of("delay", "failureRatio"),
+                rule.getRules().stream().map(AnnotationAttributeRule::getAttribute).toList());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> rule.addRule(new AnnotationAttributeRule("successThreshold")));
+
+        AnnotationAttributeRule failureRatio = rule.getRules().get(1);
+        Assertions.assertEquals("microprofile-faulttolerance", failureRatio.getSource());
+        Assertions.assertNull(failureRatio.validate(0.5));
+        Assertions.assertNotNull(failureRatio.validate(2));
+    }
+
+    private static List<AnnotationRule> createRules() {
+        try {
+            List<AnnotationRule> rules = new ArrayList<>();
+            AnnotationRule circuitBreaker = new AnnotationRule(CIRCUIT_BREAKER, "microprofile-faulttolerance");
+            circuitBreaker.addRule(createAttributeRule("delay", "0"));
+            circuitBreaker.addRule(createAttributeRule("failureRatio", "[0,1]"));
+            rules.add(circuitBreaker);
+            AnnotationRule retry = new AnnotationRule(RETRY, "microprofile-faulttolerance");
+            retry.addRule(createAttributeRule("delay", "0"));
+            retry.addRule(createAttributeRule("maxRetries", "-1"));
+            rules.add(retry);
+            AnnotationRule timeout = new AnnotationRule(TIMEOUT, "microprofile-faulttolerance");
+            timeout.addRule(createAttributeRule("value", "0"));
+            rules.add(timeout);
+            return rules;
+        } catch (RangeExpressionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AnnotationAttributeRule createAttributeRule(String attribute, String range)
+            throws RangeExpressionException {
+        AnnotationAttributeRule rule = new AnnotationAttributeRule(attribute);
+        rule.setRange(range);
+        return rule;
+    }
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tests the flattening of the YAML documents of {@link YamlConfigSource} into properties.
+ */
+public class YamlConfigSourceTest {
+
+    @Test
+    public void nestedKeys() throws IOException {
+        assertProperties("""
+                        mp:
+                          config:
+                            profile: dev
+                        greeting.message: hello
+                        server:
+                          port: 9080
+                          host: localhost
+                        """,
+                "mp.config.profile", "dev",
+                "greeting.message", "hello",
+                "server.port", "9080",
+                "server.host", "localhost");
+    }
+
+    @Test
+    public void profileSections() throws IOException {
+        assertProperties("""
+                        server:
+                          port: 9080
+                        "%dev":
+                          server:
+                            port: 9081
+                        "%prod":
+                          server.port: 80
+                        """,
+                "server.port", "9080",
+                "%dev.server.port", "9081",
+                "%prod.server.port", "80");
+    }
+
+    @Test
+    public void profileConfigFile() throws IOException {
+        // The profile properties of a profile config file are not valid
+        assertProfileProperties("dev", """
+                        server:
+                          port: 9081
+                        "%prod":
+                          server.port: 80
+                        """,
+                "%dev.server.port", "9081");
+    }
+
+    @Test
+    public void sequencesOfScalars() throws IOException {
+        assertProperties("""
+                        hosts:
+                          - a.example.com
+                          - b.example.com
+                        tags: [x, "y,z"]
+                        """,
+                "hosts[0]", "a.example.com",
+                "hosts[1]", "b.example.com",
+                "hosts", "a.example.com,b.example.com",
+                "tags[0]", "x",
+                "tags[1]", "y,z",
+                "tags", "x,y\\,z");
+    }
+
+    @Test
+    public void sequencesOfCollections() throws IOException {
+        // A sequence of mappings or sequences has no comma separated value
+        assertProperties("""
+                        servers:
+                          - name: first
+                            port: 1
+                          - name: second
+                            port: 2
+                        matrix:
+                          - [1, 2]
+                          - [3]
+                        """,
+                "servers[0].name", "first",
+                "servers[0].port", "1",
+                "servers[1].name", "second",
+                "servers[1].port", "2",
+                "matrix[0][0]", "1",
+                "matrix[0][1]", "2",
+                "matrix[0]", "1,2",
+                "matrix[1][0]", "3",
+                "matrix[1]", "3");
+    }
+
+    @Test
+    public void aliases() throws IOException {
+        assertProperties("""
+                        defaults:
+                          timeout: &timeout 30
+                          retries: &retries [1, 2]
+                        client:
+                          timeout: *timeout
+                          retries: *retries
+                        """,
+                "defaults.timeout", "30",
+                "defaults.retries[0]", "1",
+                "defaults.retries[1]", "2",
+                "defaults.retries", "1,2",
+                // Only the aliases of scalars are resolved
+                "client.timeout", "30");
+    }
+
+    @Test
+    public void nullAndEmptyValues() throws IOException {
+        assertProperties("""
+                        empty:
+                        tilde: ~
+                        null.value: null
+                        quoted.empty: ""
+                        quoted.null: 'null'
+                        """,
+                "empty", "",
+                "tilde", "",
+                "null.value", "",
+                "quoted.empty", "",
+                "quoted.null", "null");
+    }
+
+    @Test
+    public void nonAsciiValues() throws IOException {
+        assertProperties("""
+                        greeting: "Grüß Gott, 你好"
+                        """,
+                "greeting", "Grüß Gott, 你好");
+    }
+
+    @Test
+    public void invalidDocument() {
+        Assertions.assertThrows(IOException.class, () -> YamlConfigSource.flatten(new StringReader("""
+                key: [unclosed
+                """), null));
+    }
+
+    @Test
+    public void largeConfigFile() throws IOException {
+        StringBuilder yaml = new StringBuilder();
+        int groups = 1000;
+        for (int group = 0; group < groups; group++) {
+            yaml.append("group").append(group).append(":\n");
+            yaml.append("  nested:\n");
+            for (int key = 0; key < 8; key++) {
+                yaml.append("    key").append(key).append(": value ").append(group).append('-').append(key).append('\n');
+            }
+        }
+        Assertions.assertEquals(10_000, yaml.chars().filter(c -> c == '\n').count());
+
+        Map<String, String> properties = YamlConfigSource.flatten(new StringReader(yaml.toString()), null);
+
+        Assertions.assertEquals(groups * 8, properties.size());
+        Assertions.assertEquals("value 999-7", properties.get("group999.nested.key7"));
+    }
+
+    private static void assertProperties(String yaml, String... expectedKeyValues) throws IOException {
+        assertProfileProperties(null, yaml, expectedKeyValues);
+    }
+
+    private static void assertProfileProperties(String profile, String yaml, String... expectedKeyValues) throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < expectedKeyValues.length; i += 2) {
+            expected.put(expectedKeyValues[i], expectedKeyValues[i + 1]);
+        }
+        Assertions.assertEquals(expected, YamlConfigSource.flatten(new StringReader(yaml), profile));
+    }
+}
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Compares the properties merged by {@link PropertiesCollector} with the result of the former merge implementation,
+ * which scanned the collected properties for each merged property, and tests the hints collected by several
+ * properties providers.
+ */
+public class PropertiesCollectorTest {
+
+    private static final int PROPERTIES_COUNT = 50_000;
+
+    @Test
+    public void mergeIsIdenticalToLinearMerge() {
+        for (List<MicroProfilePropertiesScope> scopes : List.of(
+                List.of(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.dependencies),
+                List.of(MicroProfilePropertiesScope.sources))) {
+            for (MergingStrategy strategy : MergingStrategy.values()) {
+                Random random = new Random(strategy.ordinal());
+                List<ConfigurationMetadata> batches = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    batches.add(generateMetadata(random, PROPERTIES_COUNT / 5));
+                }
+
+                MicroProfileProjectInfo actual = new MicroProfileProjectInfo();
+                PropertiesCollector collector = new PropertiesCollector(actual, scopes);
+                MicroProfileProjectInfo expected = new MicroProfileProjectInfo();
+                LinearPropertiesCollector reference = new LinearPropertiesCollector(expected, scopes);
+                for (ConfigurationMetadata batch : batches) {
+                    // Properties added by the providers may have the same name
+                    for (ItemMetadata property : batch.getProperties().subList(0, 100)) {
+                        collector.addItemMetadata(property.getName(), property.getType(), null, property.getSourceType(),
+                                null, null, null, null, false, 0);
+                        reference.addItemMetadata(property.getName(), property.getType(), property.getSourceType());
+                    }
+                    collector.merge(batch, strategy);
+                    reference.merge(batch, strategy);
+                }
+
+                Gson gson = new Gson();
+                Assertions.assertEquals(gson.toJson(expected), gson.toJson(actual),
+                        "Unexpected merge result for " + strategy + " with " + scopes);
+            }
+        }
+    }
+
+    @Test
+    public void enumHintOfSeveralProvidersIsNotDuplicated() {
+        // The config property and the fault tolerance providers both collect the ChronoUnit enum hint
+        ConfigurationMetadata configProperties = createProviderMetadata("mp.config.timeout.unit",
+                createHint("java.time.temporal.ChronoUnit", "NANOS", "MILLIS", "SECONDS"));
+        ConfigurationMetadata faultTolerance = createProviderMetadata("Retry/delayUnit",
+                createHint("java.time.temporal.ChronoUnit", "NANOS", "MILLIS", "SECONDS"));
+
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        PropertiesCollector collector = new PropertiesCollector(info, List.of(MicroProfilePropertiesScope.sources,
+                MicroProfilePropertiesScope.dependencies));
+        collector.collect(configProperties);
+        collector.collect(faultTolerance);
+
+        Assertions.assertEquals(List.of("mp.config.timeout.unit", "Retry/delayUnit"),
+                info.getProperties().stream().map(ItemMetadata::getName).toList());
+        Assertions.assertEquals(1, info.getHints().size());
+        Assertions.assertEquals(List.of("NANOS", "MILLIS", "SECONDS"),
+                info.getHints().get(0).getValues().stream().map(ValueHint::getValue).toList());
+    }
+
+    @Test
+    public void hintValuesOfSeveralProvidersAreAccumulated() {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        PropertiesCollector collector = new PropertiesCollector(info, List.of(MicroProfilePropertiesScope.sources,
+                MicroProfilePropertiesScope.dependencies));
+        collector.collect(createProviderMetadata("a", createHint("${mp.register.rest.client.class}", "org.acme.A")));
+        collector.collect(createProviderMetadata("b",
+                createHint("${mp.register.rest.client.class}", "org.acme.A", "org.acme.B")));
+
+        Assertions.assertEquals(List.of("org.acme.A", "org.acme.B"),
+                info.getHints().get(0).getValues().stream().map(ValueHint::getValue).toList());
+    }
+
+    private static ConfigurationMetadata createProviderMetadata(String propertyName, ItemHint hint) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(propertyName);
+        property.setType(hint.getName());
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(new ArrayList<>(List.of(property)));
+        metadata.setHints(new ArrayList<>(List.of(hint)));
+        return metadata;
+    }
+
+    private static ItemHint createHint(String name, String... values) {
+        ItemHint hint = new ItemHint();
+        hint.setName(name);
+        hint.setSourceType(name);
+        List<ValueHint> valueHints = new ArrayList<>();
+        for (String value : values) {
+            ValueHint valueHint = new ValueHint();
+            valueHint.setValue(value);
+            valueHints.add(valueHint);
+        }
+        hint.setValues(valueHints);
+        return hint;
+    }
+
+    private static ConfigurationMetadata generateMetadata(Random random, int count) {
+        List<ItemMetadata> properties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ItemMetadata property = new ItemMetadata();
+            // Names are picked among fewer values than the number of properties to get duplicates
+            property.setName("mp.generated.property." + random.nextInt(PROPERTIES_COUNT / 2));
+            property.setType("java.lang.String");
+            property.setSourceType("org.acme.Config" + random.nextInt(100));
+            property.setSourceField("field" + i);
+            if (random.nextBoolean()) {
+                property.setSource(Boolean.TRUE);
+            }
+            properties.add(property);
+        }
+        List<ItemHint> hints = new ArrayList<>();
+        for (int i = 0; i < count / 100; i++) {
+            ItemHint hint = new ItemHint();
+            hint.setName("org.acme.Enum" + random.nextInt(50));
+            List<ValueHint> values = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                ValueHint value = new ValueHint();
+                value.setValue("VALUE_" + random.nextInt(10));
+                values.add(value);
+            }
+            hint.setValues(values);
+            hints.add(hint);
+        }
+        ConfigurationMetadata metadata = new ConfigurationMetadata();
+        metadata.setProperties(properties);
+        metadata.setHints(hints);
+        return metadata;
+    }
+
+    /**
+     * Former merge implementation of {@link PropertiesCollector} used as reference.
+     */
+    private static class LinearPropertiesCollector {
+
+        private final ConfigurationMetadata configuration;
+
+        private final boolean onlySources;
+
+        private final PropertiesCollector hintsCollector;
+
+        LinearPropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
+            // Hints merge is unchanged, the properties of the hints collector are replaced below
+            this.hintsCollector = new PropertiesCollector(configuration, scopes);
+            this.configuration = configuration;
+            this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
+        }
+
+        void addItemMetadata(String name, String type, String sourceType) {
+            ItemMetadata property = new ItemMetadata();
+            property.setName(name);
+            property.setType(type);
+            property.setSourceType(sourceType);
+            property.setSource(Boolean.TRUE);
+            property.setPhase(0);
+            property.setRequired(true);
+            configuration.getProperties().add(property);
+        }
+
+        void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
+            for (ItemMetadata property : metadata.getProperties()) {
+                merge(property, mergingStrategy);
+            }
+            ConfigurationMetadata hints = new ConfigurationMetadata();
+            hints.setHints(metadata.getHints());
+            hintsCollector.merge(hints, mergingStrategy);
+        }
+
+        private void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+            if (onlySources && (property.getSource() == null || !property.getSource())) {
+                return;
+            }
+            Optional<ItemMetadata> configProperty = configuration.getProperties().stream()
+                    .filter(cp -> cp.getName().equals(property.getName())).findFirst();
+            switch (mergingStrategy) {
+                case IGNORE_IF_EXISTS:
+                    if (configProperty.isEmpty()) {
+                        configuration.getProperties().add(property);
+                    }
+                    break;
+                case REPLACE:
+                    configProperty.ifPresent(p -> configuration.getProperties().remove(p));
+                    configuration.getProperties().add(property);
+                    break;
+                default:
+                    configuration.getProperties().add(property);
+                    break;
+            }
+        }
+    }
+}
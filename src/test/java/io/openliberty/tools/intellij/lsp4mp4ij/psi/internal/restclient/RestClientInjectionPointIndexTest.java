@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import io.openliberty.tools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static io.openliberty.tools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+/**
+ * Compares the REST client injection points found by {@link RestClientInjectionPointIndex} with the injection points
+ * found by searching the references of the REST client interfaces.
+ */
+public class RestClientInjectionPointIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String SAMPLE_SOURCES = "src/test/resources/projects/gradle/sampleGradleMPLSApp/src/main/java";
+
+    @Override
+    protected String getTestDataPath() {
+        return SAMPLE_SOURCES;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // Minimal API of the annotations used by the sample project
+        myFixture.addClass("package org.eclipse.microprofile.rest.client.inject; public @interface RestClient {}");
+        myFixture.addClass("package org.eclipse.microprofile.rest.client.inject; public @interface RegisterRestClient {}");
+        myFixture.addClass("package javax.inject; public @interface Inject {}");
+        myFixture.addClass("package jakarta.inject; public @interface Inject {}");
+        myFixture.addClass("package javax.enterprise.context; public @interface ApplicationScoped {}");
+        myFixture.addClass("package javax.ws.rs; public @interface GET {}");
+        myFixture.addClass("package javax.ws.rs; public @interface Path { String value(); }");
+        myFixture.addClass("package javax.ws.rs; public @interface PathParam { String value(); }");
+    }
+
+    public void testSampleProject() {
+        myFixture.copyDirectoryToProject("io/openliberty/mp/sample", "io/openliberty/mp/sample");
+
+        assertSameInjectionPoints("io.openliberty.mp.sample.client.Service", 1);
+    }
+
+    public void testInjectionPointsOfInterfaceWithoutRegisterRestClient() {
+        myFixture.addClass("""
+                package org.acme;
+                public interface Countries {}
+                """);
+        myFixture.addClass("""
+                package org.acme;
+                import java.util.List;
+                import javax.inject.Inject;
+                import org.eclipse.microprofile.rest.client.inject.RestClient;
+                public class CountriesResource {
+                    @Inject
+                    @RestClient
+                    Countries countries;
+
+                    @jakarta.inject.Inject
+                    @org.eclipse.microprofile.rest.client.inject.RestClient
+                    org.acme.Countries qualifiedCountries;
+
+                    @Inject
+                    Countries notARestClient;
+
+                    @RestClient
+                    Countries notInjected;
+
+                    @Inject
+                    @RestClient
+                    List<Countries> countriesList;
+
+                    Countries plainField;
+                }
+                """);
+        myFixture.addClass("""
+                package org.other;
+                import javax.inject.Inject;
+                import org.eclipse.microprofile.rest.client.inject.RestClient;
+                public class OtherResource {
+                    @Inject
+                    @RestClient
+                    Countries countriesOfAnotherPackage;
+
+                    public interface Countries {}
+                }
+                """);
+
+        assertSameInjectionPoints("org.acme.Countries", 3);
+        assertSameInjectionPoints("org.other.OtherResource.Countries", 1);
+    }
+
+    public void testIndexIsUpdatedWhenFileChanges() {
+        myFixture.addClass("package org.acme; public interface Countries {}");
+        myFixture.configureByText("CountriesResource.java", """
+                package org.acme;
+                import javax.inject.Inject;
+                import org.eclipse.microprofile.rest.client.inject.RestClient;
+                public class CountriesResource {
+                    @Inject
+                    <caret>Countries countries;
+                }
+                """);
+        assertSameInjectionPoints("org.acme.Countries", 0);
+
+        myFixture.type("@RestClient ");
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        assertSameInjectionPoints("org.acme.Countries", 1);
+    }
+
+    private void assertSameInjectionPoints(String interfaceName, int expectedCount) {
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+        PsiClass interfaceType = JavaPsiFacade.getInstance(getProject()).findClass(interfaceName, scope);
+        assertNotNull(interfaceName, interfaceType);
+
+        List<PsiField> expected = searchInjectionPoints(interfaceType, scope);
+        List<PsiField> actual = RestClientInjectionPointIndex.getInjectionPoints(interfaceType, scope);
+        assertSameElements(actual, expected);
+        assertEquals(expectedCount, actual.size());
+    }
+
+    /**
+     * Returns the injection points of the given interface found with the references search formerly used by
+     * MicroProfileRestClientDiagnosticsParticipant.
+     */
+    private static List<PsiField> searchInjectionPoints(PsiClass interfaceType, GlobalSearchScope scope) {
+        Set<PsiField> fields = new LinkedHashSet<>();
+        ReferencesSearch.search(interfaceType, scope).forEach(match -> {
+            PsiField field = PsiTreeUtil.getParentOfType(match.getElement(), PsiField.class);
+            if (field != null
+                    && AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION)
+                    && AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION)) {
+                fields.add(field);
+            }
+        });
+        return new ArrayList<>(fields);
+    }
+}